@@ -0,0 +1,88 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class BenchmarkData {
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] WORDS = {"дрель", "перфоратор", "отвёртка", "пила", "лестница", "палатка",
+            "велосипед", "самокат", "проектор", "гитара", "аккумуляторная", "сетевая", "туристическая",
+            "детский", "складная", "ударная", "электрическая", "большой", "компактный", "новая"};
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final Random random;
+    private final boolean assignIds;
+    private long nextUserId = 1;
+    private long nextItemId = 1;
+    private long nextBookingId = 1;
+
+    public BenchmarkData(long seed, boolean assignIds) {
+        this.random = new Random(seed);
+        this.assignIds = assignIds;
+    }
+
+    public List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long number = nextUserId++;
+            users.add(User.builder()
+                    .id(assignIds ? number : null)
+                    .name("Пользователь " + number)
+                    .email("user" + number + "@practicum.ru")
+                    .build());
+        }
+        return users;
+    }
+
+    public List<Item> items(List<User> owners, int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long number = nextItemId++;
+            items.add(Item.builder()
+                    .id(assignIds ? number : 0)
+                    .name(text(2))
+                    .description(text(6))
+                    .available(random.nextInt(10) != 0)
+                    .owner(owners.get(random.nextInt(owners.size())))
+                    .build());
+        }
+        return items;
+    }
+
+    public List<Booking> bookings(User booker, List<Item> items, int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long number = nextBookingId++;
+            LocalDateTime start = EPOCH.plusHours(random.nextInt(24 * 365));
+            bookings.add(Booking.builder()
+                    .id(assignIds ? number : 0)
+                    .start(start)
+                    .end(start.plusHours(1 + random.nextInt(72)))
+                    .item(items.get(random.nextInt(items.size())))
+                    .booker(booker)
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .build());
+        }
+        return bookings;
+    }
+
+    public String text(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
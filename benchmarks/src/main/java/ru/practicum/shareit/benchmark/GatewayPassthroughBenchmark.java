@@ -0,0 +1,74 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayPassthroughBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int bookingCount;
+
+    ObjectMapper mapper;
+    byte[] serverResponse;
+    OutputStream sink;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        sink = OutputStream.nullOutputStream();
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<BookingDto> bookings = new ArrayList<>(bookingCount);
+        for (long id = 1; id <= bookingCount; id++) {
+            bookings.add(BookingDto.builder()
+                    .id(id)
+                    .start(start.plusDays(id))
+                    .end(start.plusDays(id + 1))
+                    .status(BookingStatus.APPROVED)
+                    .booker(new UserDto(id, "Пользователь " + id, "user" + id + "@practicum.ru"))
+                    .item(ItemDto.builder()
+                            .id(id)
+                            .name("Дрель " + id)
+                            .description("Аккумуляторная дрель с набором бит")
+                            .available(true)
+                            .comments(List.of())
+                            .build())
+                    .build());
+        }
+        serverResponse = mapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public void parseAndReserialize() throws IOException {
+        Object body = mapper.readValue(serverResponse, Object.class);
+        mapper.writeValue(sink, body);
+    }
+
+    @Benchmark
+    public void passthrough() throws IOException {
+        sink.write(serverResponse);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemInvertedIndex;
+import ru.practicum.shareit.user.model.User;
+
+import java.sql.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchBenchmark {
+    @Param({"10000", "100000"})
+    int itemCount;
+
+    @Param({"дрель"})
+    String text;
+
+    Connection connection;
+    PreparedStatement ilikeStatement;
+    ItemInvertedIndex index;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-" + itemCount, "shareit", "shareit");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, " +
+                    "description TEXT, is_available BOOLEAN, request_id BIGINT)");
+        }
+
+        index = new ItemInvertedIndex();
+        BenchmarkData data = new BenchmarkData(BenchmarkData.DEFAULT_SEED, true);
+        List<User> owners = data.users(100);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO items (id, name, description, is_available) VALUES (?, ?, ?, ?)")) {
+            for (Item item : data.items(owners, itemCount)) {
+                insert.setLong(1, item.getId());
+                insert.setString(2, item.getName());
+                insert.setString(3, item.getDescription());
+                insert.setBoolean(4, item.getAvailable());
+                insert.addBatch();
+                index.index(item);
+            }
+            insert.executeBatch();
+        }
+
+        ilikeStatement = connection.prepareStatement("SELECT id, name, description, is_available, request_id " +
+                "FROM items WHERE (name ILIKE ? OR description ILIKE ?) AND is_available = true");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        ilikeStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public void ilikeQuery(Blackhole blackhole) throws SQLException {
+        ilikeStatement.setString(1, "%" + text + "%");
+        ilikeStatement.setString(2, "%" + text + "%");
+        try (ResultSet resultSet = ilikeStatement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getString(2));
+                blackhole.consume(resultSet.getString(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public void invertedIndex(Blackhole blackhole) {
+        for (Item item : index.search(text)) {
+            blackhole.consume(item);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    int size;
+
+    ObjectMapper mapper;
+    List<ItemDto> items;
+    List<BookingDto> bookings;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        BenchmarkData data = new BenchmarkData(BenchmarkData.DEFAULT_SEED, true);
+        List<User> users = data.users(50);
+        List<Item> itemEntities = data.items(users, size);
+        items = itemEntities.stream().map(ItemMapper::toItemDto).toList();
+        bookings = data.bookings(users.getFirst(), itemEntities, size).stream()
+                .map(BookingMapper::toBookingDto)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeItems() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(bookings);
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServerThreadsBenchmark {
+    private static final int REQUESTS = 1000;
+
+    @Param({"false", "true"})
+    boolean virtualThreads;
+
+    @Param({"100", "400"})
+    int concurrency;
+
+    @Param({"20"})
+    int poolSize;
+
+    Server database;
+    ConfigurableApplicationContext context;
+    ExecutorService clients;
+    HttpClient httpClient;
+    HttpRequest request;
+
+    @Setup
+    public void setUp() throws SQLException {
+        database = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:" + database.getURL() + "/mem:server-threads;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=shareit",
+                        "--spring.datasource.password=shareit",
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "--shareit.item.search.engine=like",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                        "--logging.level.ru.practicum.shareit=OFF");
+
+        BenchmarkData data = new BenchmarkData(BenchmarkData.DEFAULT_SEED, false);
+        List<User> users = context.getBean(UserRepository.class).saveAll(data.users(100));
+        List<Item> items = context.getBean(ItemRepository.class).saveAll(data.items(users, 1000));
+        User booker = users.getFirst();
+        context.getBean(BookingRepository.class).saveAll(data.bookings(booker, items, 100));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().executor(clients).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bookings?state=ALL&from=0&size=20"))
+                .header("X-Sharer-User-Id", String.valueOf(booker.getId()))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        clients.shutdownNow();
+        context.close();
+        database.stop();
+    }
+
+    @Benchmark
+    public void handleRequests(Outcomes outcomes) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<Integer>> results = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            results.add(clients.submit(() -> {
+                try {
+                    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+        for (Future<Integer> result : results) {
+            try {
+                if (result.get() == 200) {
+                    outcomes.ok++;
+                } else {
+                    outcomes.failed++;
+                }
+            } catch (ExecutionException e) {
+                outcomes.failed++;
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long ok;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ok = 0;
+            failed = 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"1000"})
+    int itemCount;
+
+    @Param({"100", "1000"})
+    int bookingsPerBooker;
+
+    @Param({"20"})
+    int pageSize;
+
+    @Param({"дрель"})
+    String text;
+
+    ConfigurableApplicationContext context;
+    BookingService bookingService;
+    ItemService itemService;
+    long bookerId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--spring.datasource.url=jdbc:h2:mem:service-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=shareit",
+                        "--spring.datasource.password=shareit",
+                        "--shareit.item.search.engine=like",
+                        "--logging.level.root=WARN");
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+
+        BenchmarkData data = new BenchmarkData(BenchmarkData.DEFAULT_SEED, false);
+        List<User> users = context.getBean(UserRepository.class).saveAll(data.users(100));
+        List<Item> items = context.getBean(ItemRepository.class).saveAll(data.items(users, itemCount));
+        User booker = users.getFirst();
+        context.getBean(BookingRepository.class).saveAll(data.bookings(booker, items, bookingsPerBooker));
+        bookerId = booker.getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> getBookingsByBookerId() {
+        return bookingService.getBookingsByBookerId(bookerId, "ALL", 0, pageSize);
+    }
+
+    @Benchmark
+    public List<ItemDto> findItemsByNameOrDescription() {
+        return itemService.findItemsByNameOrDescription(text);
+    }
+}
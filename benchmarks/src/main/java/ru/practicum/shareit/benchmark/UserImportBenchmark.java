@@ -0,0 +1,103 @@
+package ru.practicum.shareit.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserImportBenchmark {
+
+    @Param({"1000"})
+    int rows;
+
+    Server database;
+    ConfigurableApplicationContext context;
+    HttpClient httpClient;
+    URI users;
+    URI usersImport;
+    long nextUser;
+
+    @Setup
+    public void setUp() throws SQLException {
+        database = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:" + database.getURL() + "/mem:user-import;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=shareit",
+                        "--spring.datasource.password=shareit",
+                        "--shareit.item.search.engine=like",
+                        "--logging.level.root=WARN",
+                        "--logging.level.ru.practicum.shareit=OFF");
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newHttpClient();
+        users = URI.create("http://localhost:" + port + "/users");
+        usersImport = URI.create("http://localhost:" + port + "/users/import");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        database.stop();
+    }
+
+    @Benchmark
+    public long postEachUser() throws IOException, InterruptedException {
+        long created = 0;
+        for (int i = 0; i < rows; i++) {
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(users)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(nextUserJson()))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 201) {
+                created++;
+            }
+        }
+        return checkCreated(created);
+    }
+
+    @Benchmark
+    public long importUsers() throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append(nextUserJson()).append('\n');
+        }
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(usersImport)
+                .header("Content-Type", "application/x-ndjson")
+                .header("Accept", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        return checkCreated(response.body().lines().filter(line -> line.contains("\"CREATED\"")).count());
+    }
+
+    private String nextUserJson() {
+        long number = nextUser++;
+        return "{\"name\":\"Пользователь " + number + "\",\"email\":\"import" + number + "@practicum.ru\"}";
+    }
+
+    private long checkCreated(long created) {
+        if (created != rows) {
+            throw new IllegalStateException("Создано " + created + " из " + rows + " пользователей");
+        }
+        return created;
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilderFactory;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncServerTransport implements ServerTransport {
+    private final WebClient webClient;
+    private final UriBuilderFactory uriBuilderFactory;
+
+    public AsyncServerTransport(WebClient webClient, UriBuilderFactory uriBuilderFactory) {
+        this.webClient = webClient;
+        this.uriBuilderFactory = uriBuilderFactory;
+    }
+
+    @Override
+    public URI expand(String path, @Nullable Map<String, Object> parameters) {
+        return parameters != null
+                ? uriBuilderFactory.expand(path, parameters)
+                : uriBuilderFactory.expand(path);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<byte[]>> exchange(HttpMethod method, String path,
+                                                              @Nullable Map<String, Object> parameters,
+                                                              HttpEntity<?> requestEntity) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(expand(path, parameters))
+                .headers(headers -> headers.addAll(requestEntity.getHeaders()));
+        WebClient.RequestHeadersSpec<?> spec = requestEntity.getBody() != null
+                ? request.bodyValue(requestEntity.getBody())
+                : request;
+        return spec.exchangeToMono(response -> response.toEntity(byte[].class)).toFuture();
+    }
+}
@@ -1,112 +1,206 @@
 package ru.practicum.shareit;
 
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class BaseClient {
-    protected final RestTemplate rest;
+    private static final List<String> PASSTHROUGH_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL, HttpHeaders.LOCATION, "X-Next-Cursor");
 
-    public BaseClient(RestTemplate rest) {
-        this.rest = rest;
+    private final ServerTransport transport;
+    private final ServerTransport bulkTransport;
+    @Nullable
+    private final GatewayResponseCache cache;
+    @Nullable
+    private final GatewayTracing tracing;
+    private final String api;
+
+    public BaseClient(ServerTransport transport) {
+        this(transport, null, null);
+    }
+
+    public BaseClient(ServerTransport transport, @Nullable GatewayResponseCache cache) {
+        this(transport, cache, null);
+    }
+
+    public BaseClient(ServerTransport transport, @Nullable GatewayResponseCache cache,
+                      @Nullable GatewayTracing tracing) {
+        this(transport, cache, tracing, transport);
+    }
+
+    public BaseClient(ServerTransport transport, @Nullable GatewayResponseCache cache,
+                      @Nullable GatewayTracing tracing, ServerTransport bulkTransport) {
+        this.transport = transport;
+        this.bulkTransport = bulkTransport;
+        this.cache = cache;
+        this.tracing = tracing;
+        this.api = transport.expand("", null).getPath();
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    protected CompletableFuture<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path) {
         return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    protected CompletableFuture<ResponseEntity<Object>> postNdjson(String path, @Nullable Long userId, InputStream body) {
+        return makeAndSendRequest(bulkTransport, HttpMethod.POST, path, userId, null, new InputStreamResource(body),
+                MediaType.APPLICATION_NDJSON);
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        return makeAndSendRequest(transport, method, path, userId, parameters, body, MediaType.APPLICATION_JSON);
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
-        try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+    private <T> CompletableFuture<ResponseEntity<Object>> makeAndSendRequest(ServerTransport target, HttpMethod method,
+                                                                             String path, Long userId,
+                                                                             @Nullable Map<String, Object> parameters,
+                                                                             @Nullable T body, MediaType mediaType) {
+        if (tracing == null) {
+            return proxy(target, method, path, userId, parameters, body, mediaType);
+        }
+        return tracing.observe(method, api, () -> proxy(target, method, path, userId, parameters, body, mediaType));
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> proxy(ServerTransport target, HttpMethod method, String path,
+                                                                Long userId, @Nullable Map<String, Object> parameters,
+                                                                @Nullable T body, MediaType mediaType) {
+        if (cache == null) {
+            return send(target, method, path, parameters, new HttpEntity<>(body, defaultHeaders(userId, mediaType)));
+        }
+        if (method == HttpMethod.GET) {
+            return sendCachedGet(path, userId, parameters);
+        }
+
+        return send(target, method, path, parameters, new HttpEntity<>(body, defaultHeaders(userId, mediaType)))
+                .thenApply(response -> {
+                    if (response.getStatusCode().is2xxSuccessful()) {
+                        cache.evictAll();
+                    }
+                    return response;
+                });
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> sendCachedGet(String path, Long userId,
+                                                                    @Nullable Map<String, Object> parameters) {
+        String key = GatewayResponseCache.key(transport.expand(path, parameters).toString(), userId);
+
+        GatewayResponseCache.Entry cached = cache.get(key);
+        if (cached != null && cache.isFresh(cached)) {
+            return CompletableFuture.completedFuture(cached.response());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+
+        long generation = cache.generation();
+        HttpHeaders headers = defaultHeaders(userId);
+        if (cached != null && cached.etag() != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+
+        return send(transport, HttpMethod.GET, path, parameters, new HttpEntity<>(null, headers))
+                .thenApply(response -> {
+                    if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                        cache.refresh(key);
+                        return cached.response();
+                    }
+                    if (response.getStatusCode() == HttpStatus.OK && response.hasBody()) {
+                        cache.put(key, response, generation);
+                    }
+                    return response;
+                });
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> send(ServerTransport target, HttpMethod method, String path,
+                                                               @Nullable Map<String, Object> parameters,
+                                                               HttpEntity<T> requestEntity) {
+        return target.exchange(method, path, parameters, requestEntity)
+                .thenApply(BaseClient::prepareGatewayResponse);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
+        return defaultHeaders(userId, MediaType.APPLICATION_JSON);
+    }
+
+    private HttpHeaders defaultHeaders(Long userId, MediaType mediaType) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.setContentType(mediaType);
+        headers.setAccept(List.of(mediaType));
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
+        if (tracing != null) {
+            tracing.inject(headers);
+        }
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+        for (String header : PASSTHROUGH_HEADERS) {
+            List<String> values = response.getHeaders().get(header);
+            if (values != null) {
+                responseBuilder.header(header, values.toArray(String[]::new));
+            }
+        }
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
@@ -0,0 +1,44 @@
+package ru.practicum.shareit;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class BlockingServerTransport implements ServerTransport {
+    private final RestTemplate rest;
+
+    public BlockingServerTransport(RestTemplate rest) {
+        this.rest = rest;
+    }
+
+    @Override
+    public URI expand(String path, @Nullable Map<String, Object> parameters) {
+        return parameters != null
+                ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<byte[]>> exchange(HttpMethod method, String path,
+                                                              @Nullable Map<String, Object> parameters,
+                                                              HttpEntity<?> requestEntity) {
+        try {
+            if (parameters != null) {
+                return CompletableFuture.completedFuture(
+                        rest.exchange(path, method, requestEntity, byte[].class, parameters));
+            }
+            return CompletableFuture.completedFuture(rest.exchange(path, method, requestEntity, byte[].class));
+        } catch (HttpStatusCodeException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(e.getStatusCode())
+                    .headers(e.getResponseHeaders())
+                    .body(e.getResponseBodyAsByteArray()));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit;
+
+public enum GatewayClientMode {
+    BLOCKING,
+    ASYNC
+}
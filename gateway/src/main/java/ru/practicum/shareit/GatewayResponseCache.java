@@ -0,0 +1,113 @@
+package ru.practicum.shareit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class GatewayResponseCache {
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long generation;
+
+    public GatewayResponseCache(@Value("${shareit-gateway.cache.max-entries:1000}") int maxEntries,
+                                @Value("${shareit-gateway.cache.ttl:5s}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = Clock.systemUTC();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > GatewayResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static String key(String uri, Long userId) {
+        return uri + "|" + (userId == null ? "" : userId);
+    }
+
+    public Entry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String key, ResponseEntity<Object> response, long readGeneration) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (readGeneration != generation) {
+                return;
+            }
+            entries.put(key, new Entry(response, clock.instant().plus(ttl)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void refresh(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                entries.put(key, new Entry(entry.response(), clock.instant().plus(ttl)));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evictAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isFresh(Entry entry) {
+        return clock.instant().isBefore(entry.expiresAt());
+    }
+
+    public record Entry(ResponseEntity<Object> response, Instant expiresAt) {
+        public String etag() {
+            return response.getHeaders().getETag();
+        }
+    }
+}
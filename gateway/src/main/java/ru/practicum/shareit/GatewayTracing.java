@@ -0,0 +1,66 @@
+package ru.practicum.shareit;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+public class GatewayTracing {
+    private static final String PROXY_OBSERVATION = "shareit.gateway.proxy";
+
+    private final ObservationRegistry observationRegistry;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public GatewayTracing(ObservationRegistry observationRegistry, ObjectProvider<Tracer> tracer,
+                          ObjectProvider<Propagator> propagator) {
+        this.observationRegistry = observationRegistry;
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> observe(HttpMethod method, String api,
+                                                             Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        Observation observation = Observation.createNotStarted(PROXY_OBSERVATION, observationRegistry)
+                .contextualName("proxy " + method.name().toLowerCase(Locale.ROOT) + " " + api)
+                .lowCardinalityKeyValue("method", method.name())
+                .lowCardinalityKeyValue("api", api)
+                .start();
+
+        CompletableFuture<ResponseEntity<Object>> response;
+        try (Observation.Scope scope = observation.openScope()) {
+            response = call.get();
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+
+        return response.whenComplete((result, error) -> {
+            if (error != null) {
+                observation.error(error);
+            } else {
+                observation.lowCardinalityKeyValue("status", String.valueOf(result.getStatusCode().value()));
+            }
+            observation.stop();
+        });
+    }
+
+    public void inject(HttpHeaders headers) {
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context != null) {
+            propagator.inject(context, headers, HttpHeaders::set);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+    private static final String CLIENT_MODE_PROPERTY = "shareit-gateway.client.mode";
+
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final Duration connectTimeout;
+    private final Duration socketTimeout;
+    private final Duration connectionTtl;
+    private final Duration connectionRequestTimeout;
+    private final Duration responseTimeout;
+    private final Duration bulkResponseTimeout;
+    private final Duration idleEviction;
+
+    public HttpClientConfig(@Value("${shareit-gateway.http.max-total:200}") int maxTotal,
+                            @Value("${shareit-gateway.http.max-per-route:100}") int maxPerRoute,
+                            @Value("${shareit-gateway.http.connect-timeout:2s}") Duration connectTimeout,
+                            @Value("${shareit-gateway.http.socket-timeout:10s}") Duration socketTimeout,
+                            @Value("${shareit-gateway.http.connection-ttl:5m}") Duration connectionTtl,
+                            @Value("${shareit-gateway.http.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+                            @Value("${shareit-gateway.http.response-timeout:10s}") Duration responseTimeout,
+                            @Value("${shareit-gateway.http.bulk-response-timeout:10m}") Duration bulkResponseTimeout,
+                            @Value("${shareit-gateway.http.idle-eviction:30s}") Duration idleEviction) {
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = maxPerRoute;
+        this.connectTimeout = connectTimeout;
+        this.socketTimeout = socketTimeout;
+        this.connectionTtl = connectionTtl;
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        this.responseTimeout = responseTimeout;
+        this.bulkResponseTimeout = bulkResponseTimeout;
+        this.idleEviction = idleEviction;
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager shareitServerConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient shareitServerHttpClient(PoolingHttpClientConnectionManager shareitServerConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(shareitServerConnectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(requestConfig(responseTimeout))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory shareitServerRequestFactory(CloseableHttpClient shareitServerHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(shareitServerHttpClient);
+    }
+
+    @Bean
+    public RequestConfig shareitServerBulkRequestConfig() {
+        return requestConfig(bulkResponseTimeout);
+    }
+
+    @Bean
+    public MeterBinder shareitServerConnectionPoolMetrics(PoolingHttpClientConnectionManager shareitServerConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(shareitServerConnectionManager, "shareit-server",
+                Tags.empty());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = CLIENT_MODE_PROPERTY, havingValue = "ASYNC")
+    public PoolingAsyncClientConnectionManager shareitServerAsyncConnectionManager() {
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = CLIENT_MODE_PROPERTY, havingValue = "ASYNC")
+    public CloseableHttpAsyncClient shareitServerAsyncHttpClient(
+            PoolingAsyncClientConnectionManager shareitServerAsyncConnectionManager,
+            @Value("${shareit-gateway.http.io-threads:2}") int ioThreads) {
+        return HttpAsyncClients.custom()
+                .setConnectionManager(shareitServerAsyncConnectionManager)
+                .setConnectionManagerShared(true)
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(ioThreads)
+                        .build())
+                .setDefaultRequestConfig(requestConfig(responseTimeout))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLIENT_MODE_PROPERTY, havingValue = "ASYNC")
+    public ClientHttpConnector shareitServerConnector(CloseableHttpAsyncClient shareitServerAsyncHttpClient) {
+        return new HttpComponentsClientHttpConnector(shareitServerAsyncHttpClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLIENT_MODE_PROPERTY, havingValue = "ASYNC")
+    public MeterBinder shareitServerAsyncConnectionPoolMetrics(
+            PoolingAsyncClientConnectionManager shareitServerAsyncConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(shareitServerAsyncConnectionManager,
+                "shareit-server-async", Tags.empty());
+    }
+
+    private ConnectionConfig connectionConfig() {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(socketTimeout))
+                .setTimeToLive(TimeValue.of(connectionTtl))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    private RequestConfig requestConfig(Duration responseTimeout) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .build();
+    }
+}
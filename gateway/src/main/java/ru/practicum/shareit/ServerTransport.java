@@ -0,0 +1,19 @@
+package ru.practicum.shareit;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface ServerTransport {
+
+    URI expand(String path, @Nullable Map<String, Object> parameters);
+
+    CompletableFuture<ResponseEntity<byte[]>> exchange(HttpMethod method, String path,
+                                                       @Nullable Map<String, Object> parameters,
+                                                       HttpEntity<?> requestEntity);
+}
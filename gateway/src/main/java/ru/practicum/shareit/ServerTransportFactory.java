@@ -0,0 +1,86 @@
+package ru.practicum.shareit;
+
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.net.URI;
+import java.util.function.BiFunction;
+
+@Component
+public class ServerTransportFactory {
+    private final String serverUrl;
+    private final GatewayClientMode mode;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final HttpComponentsClientHttpRequestFactory requestFactory;
+    private final ObjectProvider<WebClient.Builder> webClientBuilder;
+    private final ObjectProvider<CloseableHttpAsyncClient> asyncHttpClient;
+    private final RequestConfig bulkRequestConfig;
+
+    public ServerTransportFactory(@Value("${shareit-server.url}") String serverUrl,
+                                  @Value("${shareit-gateway.client.mode:BLOCKING}") GatewayClientMode mode,
+                                  RestTemplateBuilder restTemplateBuilder,
+                                  HttpComponentsClientHttpRequestFactory requestFactory,
+                                  ObjectProvider<WebClient.Builder> webClientBuilder,
+                                  ObjectProvider<CloseableHttpAsyncClient> asyncHttpClient,
+                                  RequestConfig shareitServerBulkRequestConfig) {
+        this.serverUrl = serverUrl;
+        this.mode = mode;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.requestFactory = requestFactory;
+        this.webClientBuilder = webClientBuilder;
+        this.asyncHttpClient = asyncHttpClient;
+        this.bulkRequestConfig = shareitServerBulkRequestConfig;
+    }
+
+    public ServerTransport create(String apiPrefix) {
+        return create(apiPrefix, null);
+    }
+
+    public ServerTransport createBulk(String apiPrefix) {
+        return create(apiPrefix, (method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(bulkRequestConfig);
+            return context;
+        });
+    }
+
+    private ServerTransport create(String apiPrefix,
+                                   @Nullable BiFunction<HttpMethod, URI, HttpClientContext> contextProvider) {
+        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(serverUrl + apiPrefix);
+        if (mode == GatewayClientMode.ASYNC) {
+            WebClient.Builder builder = webClientBuilder.getObject()
+                    .uriBuilderFactory(uriBuilderFactory);
+            if (contextProvider != null) {
+                builder.clientConnector(new HttpComponentsClientHttpConnector(asyncHttpClient.getObject(),
+                        contextProvider));
+            }
+            return new AsyncServerTransport(builder.build(), uriBuilderFactory);
+        }
+        HttpComponentsClientHttpRequestFactory factory = contextProvider != null
+                ? contextualRequestFactory(contextProvider)
+                : requestFactory;
+        return new BlockingServerTransport(restTemplateBuilder
+                .uriTemplateHandler(uriBuilderFactory)
+                .requestFactory(() -> factory)
+                .build());
+    }
+
+    private HttpComponentsClientHttpRequestFactory contextualRequestFactory(
+            BiFunction<HttpMethod, URI, HttpClientContext> contextProvider) {
+        HttpComponentsClientHttpRequestFactory factory =
+                new HttpComponentsClientHttpRequestFactory(requestFactory.getHttpClient());
+        factory.setHttpContextFactory(contextProvider::apply);
+        return factory;
+    }
+}
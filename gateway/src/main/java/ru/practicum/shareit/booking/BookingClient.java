@@ -1,50 +1,58 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.BaseClient;
+import ru.practicum.shareit.GatewayResponseCache;
+import ru.practicum.shareit.GatewayTracing;
+import ru.practicum.shareit.ServerTransportFactory;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public BookingClient(ServerTransportFactory transports, GatewayResponseCache responseCache,
+                         GatewayTracing tracing) {
+        super(transports.create(API_PREFIX), responseCache, tracing);
     }
 
-    public ResponseEntity<Object> getAllBookingsForBooker(Long userId, BookingState state, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAllBookingsForBooker(Long userId, BookingState state,
+                                                                             Integer from, Integer size,
+                                                                             String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of("state", state, "cursor", cursor, "size", size);
+            return get("?state={state}&cursor={cursor}&size={size}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of("state", state, "from", from, "size", size);
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> createBooking(Long userId, NewBookingDto newBookingDto) {
+    public CompletableFuture<ResponseEntity<Object>> createBooking(Long userId, NewBookingDto newBookingDto) {
         return post("", userId, newBookingDto);
     }
 
-    public ResponseEntity<Object> getAllBookingsForOwner(Long userId, BookingState state) {
+    public CompletableFuture<ResponseEntity<Object>> getAllBookingsForOwner(Long userId, BookingState state,
+                                                                            Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of("state", state, "cursor", cursor, "size", size);
+            return get("/owner?state={state}&cursor={cursor}&size={size}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of("state", state);
-        return get("/owner", userId, parameters);
+        return get("/owner?state={state}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingById(Long userId, Long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getBookingById(Long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> updateStatusBooking(Long userId, Long bookingId, Boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> updateStatusBooking(Long userId, Long bookingId,
+                                                                         Boolean approved) {
         return patch(("/" + bookingId + "?approved=" + approved), userId, null);
     }
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(path = "/bookings")
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -18,42 +20,44 @@ public class BookingController {
     BookingClient bookingClient;
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                @Valid @RequestBody NewBookingDto newBookingDto) {
+    public CompletableFuture<ResponseEntity<Object>> createBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                   @Valid @RequestBody NewBookingDto newBookingDto) {
         return bookingClient.createBooking(userId, newBookingDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllBookingsForBooker(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                          @RequestParam(name = "state", defaultValue = "all")
-                                                          String stateParam,
-                                                          @PositiveOrZero
-														  @RequestParam(name = "from", defaultValue = "0")
-                                                          Integer from,
-                                                          @Positive @RequestParam(name = "size", defaultValue = "10")
-                                                          Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAllBookingsForBooker(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(name = "state", defaultValue = "all") String stateParam,
+            @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Неверный state: " + stateParam));
-        return bookingClient.getAllBookingsForBooker(userId, state, from, size);
+        return bookingClient.getAllBookingsForBooker(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllBookingsForOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                   @RequestParam(defaultValue = "ALL") BookingState state) {
-        return bookingClient.getAllBookingsForOwner(userId, state);
+    public CompletableFuture<ResponseEntity<Object>> getAllBookingsForOwner(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingClient.getAllBookingsForOwner(userId, state, size, cursor);
     }
 
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBookingById(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                     @PathVariable("bookingId") Long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getBookingById(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                    @PathVariable("bookingId") Long bookingId) {
         return bookingClient.getBookingById(userId, bookingId);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateStatusBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                          @PathVariable("bookingId") Long bookingId,
-                                          @RequestParam(name = "approved", required = true) Boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> updateStatusBooking(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable("bookingId") Long bookingId,
+            @RequestParam(name = "approved", required = true) Boolean approved) {
         return bookingClient.updateStatusBooking(userId, bookingId, approved);
     }
 }
@@ -1,55 +1,56 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.BaseClient;
+import ru.practicum.shareit.GatewayResponseCache;
+import ru.practicum.shareit.GatewayTracing;
+import ru.practicum.shareit.ServerTransportFactory;
 import ru.practicum.shareit.item.dto.NewCommentDto;
 import ru.practicum.shareit.item.dto.NewItemDto;
 import ru.practicum.shareit.item.dto.UpdateItemDto;
 
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public ItemClient(ServerTransportFactory transports, GatewayResponseCache responseCache,
+                      GatewayTracing tracing) {
+        super(transports.create(API_PREFIX), responseCache, tracing, transports.createBulk(API_PREFIX));
     }
 
-    public ResponseEntity<Object> findAllOwnerItems(Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> findAllOwnerItems(Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> findItemsByNameOrDescription(Long userId, String text) {
+    public CompletableFuture<ResponseEntity<Object>> findItemsByNameOrDescription(Long userId, String text) {
         Map<String, Object> parameters = Map.of("text", text);
         return get("/search?text={text}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemById(Long userId, Long itemId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemById(Long userId, Long itemId) {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> createItem(Long userId, NewItemDto newItemDto) {
+    public CompletableFuture<ResponseEntity<Object>> createItem(Long userId, NewItemDto newItemDto) {
         return post("", userId, newItemDto);
     }
 
-    public ResponseEntity<Object> updateItem(Long userId, Long itemId, UpdateItemDto updateItemDto) {
+    public CompletableFuture<ResponseEntity<Object>> importItems(Long userId, InputStream body) {
+        return postNdjson("/import", userId, body);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> updateItem(Long userId, Long itemId, UpdateItemDto updateItemDto) {
         return patch("/" + itemId, userId, updateItemDto);
     }
 
-    public ResponseEntity<Object> addComment(Long userId, Long itemId, NewCommentDto newCommentDto) {
+    public CompletableFuture<ResponseEntity<Object>> addComment(Long userId, Long itemId, NewCommentDto newCommentDto) {
         return post(("/" + itemId + "/comment"), userId, newCommentDto);
     }
 }
\ No newline at end of file
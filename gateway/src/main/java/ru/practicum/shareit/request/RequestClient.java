@@ -1,45 +1,46 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.BaseClient;
+import ru.practicum.shareit.GatewayResponseCache;
+import ru.practicum.shareit.GatewayTracing;
+import ru.practicum.shareit.ServerTransportFactory;
 import ru.practicum.shareit.request.dto.NewRequestDto;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class RequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public RequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public RequestClient(ServerTransportFactory transports, GatewayResponseCache responseCache,
+                         GatewayTracing tracing) {
+        super(transports.create(API_PREFIX), responseCache, tracing);
     }
 
-    public ResponseEntity<Object> getRequests(Long userId, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getRequests(Long userId, Integer from, Integer size,
+                                                                 String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of("cursor", cursor, "size", size);
+            return get("/all?cursor={cursor}&size={size}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of("from", from, "size", size);
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getRequestById(Long userId, Long requestId) {
+    public CompletableFuture<ResponseEntity<Object>> getRequestById(Long userId, Long requestId) {
         return get("/" + requestId, userId);
     }
 
-    public ResponseEntity<Object> createRequest(Long userId, NewRequestDto newRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> createRequest(Long userId, NewRequestDto newRequestDto) {
         return post("", userId, newRequestDto);
     }
 
-    public ResponseEntity<Object> getAllRequestsById(Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getAllRequestsById(Long userId) {
         return get("", userId);
     }
 }
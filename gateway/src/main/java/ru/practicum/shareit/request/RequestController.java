@@ -10,6 +10,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.NewRequestDto;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(path = "/requests")
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -18,26 +20,29 @@ public class RequestController {
     RequestClient requestClient;
 
     @PostMapping
-    public ResponseEntity<Object> createRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                         @Valid @RequestBody NewRequestDto newRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> createRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                            @Valid @RequestBody NewRequestDto newRequestDto) {
         return requestClient.createRequest(userId, newRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllRequestsById(@RequestHeader("X-Sharer-User-Id") Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getAllRequestsById(
+            @RequestHeader("X-Sharer-User-Id") Long userId) {
         return requestClient.getAllRequestsById(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                           @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero Integer from,
-                                           @RequestParam(name = "size", defaultValue = "50") @Positive Integer size) {
-        return requestClient.getRequests(userId, from, size);
+    public CompletableFuture<ResponseEntity<Object>> getRequests(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(name = "size", defaultValue = "50") @Positive Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        return requestClient.getRequests(userId, from, size, cursor);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                     @PathVariable("requestId") Long requestId) {
+    public CompletableFuture<ResponseEntity<Object>> getRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                        @PathVariable("requestId") Long requestId) {
         return requestClient.getRequestById(userId, requestId);
     }
 }
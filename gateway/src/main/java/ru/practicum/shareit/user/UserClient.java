@@ -1,47 +1,49 @@
 package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.BaseClient;
+import ru.practicum.shareit.GatewayResponseCache;
+import ru.practicum.shareit.GatewayTracing;
+import ru.practicum.shareit.ServerTransportFactory;
 import ru.practicum.shareit.user.dto.NewUserDto;
 import ru.practicum.shareit.user.dto.UpdateUserDto;
 
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public UserClient(ServerTransportFactory transports, GatewayResponseCache responseCache,
+                      GatewayTracing tracing) {
+        super(transports.create(API_PREFIX), responseCache, tracing, transports.createBulk(API_PREFIX));
     }
 
-    public ResponseEntity<Object> getUsers() {
+    public CompletableFuture<ResponseEntity<Object>> getUsers() {
         return get("/");
     }
 
-    public ResponseEntity<Object> getUserById(Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getUserById(Long userId) {
         return get("/" + userId);
     }
 
-    public ResponseEntity<Object> createUser(NewUserDto newUserDto) {
+    public CompletableFuture<ResponseEntity<Object>> createUser(NewUserDto newUserDto) {
         return post("", newUserDto);
     }
 
-    public ResponseEntity<Object> updateUser(Long userId, UpdateUserDto updateUserDto) {
+    public CompletableFuture<ResponseEntity<Object>> importUsers(InputStream body) {
+        return postNdjson("/import", null, body);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> updateUser(Long userId, UpdateUserDto updateUserDto) {
         return patch("/" + userId, updateUserDto);
     }
 
-    public ResponseEntity<Object> deleteUserById(Long userId) {
+    public CompletableFuture<ResponseEntity<Object>> deleteUserById(Long userId) {
         return delete("/" + userId);
     }
 }
@@ -0,0 +1,11 @@
+package ru.practicum.shareit;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "shareit-gateway.client.mode=ASYNC",
+        "shareit-gateway.http.response-timeout=300ms",
+        "shareit-gateway.http.bulk-response-timeout=10s"
+})
+public class AsyncGatewayImportTest extends GatewayImportTest {
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "shareit-gateway.client.mode=ASYNC",
+        "shareit-gateway.cache.max-entries=0",
+        "shareit-gateway.http.max-total=1000",
+        "shareit-gateway.http.max-per-route=1000",
+        "server.tomcat.threads.max=8",
+        "server.tomcat.threads.min-spare=4"
+})
+public class AsyncGatewayLoadTest {
+    private static final int SERVLET_THREADS = 8;
+    private static final int REQUESTS = 400;
+    private static final Duration SERVER_DELAY = Duration.ofMillis(200);
+
+    static final AtomicInteger inFlight = new AtomicInteger();
+    static final AtomicInteger maxInFlight = new AtomicInteger();
+    static HttpServer stubServer;
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void stubServerUrl(DynamicPropertyRegistry registry) throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), REQUESTS);
+        stubServer.createContext("/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SERVER_DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"id\":1,\"name\":\"Дрель\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + stubServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void holdsMoreInFlightRequestsThanServletThreads() {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, REQUESTS)
+                .mapToObj(i -> client.sendAsync(HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + "/items/" + (i + 1)))
+                                .header("X-Sharer-User-Id", "1")
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        List<Integer> statuses = responses.stream()
+                .map(CompletableFuture::join)
+                .map(HttpResponse::statusCode)
+                .toList();
+
+        assertThat(statuses).hasSize(REQUESTS).allMatch(status -> status == 200);
+        assertThat(maxInFlight.get()).isGreaterThan(SERVLET_THREADS * 4);
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "shareit-gateway.http.response-timeout=300ms",
+        "shareit-gateway.http.bulk-response-timeout=10s"
+})
+public class GatewayImportTest {
+    private static final Duration SERVER_DELAY = Duration.ofSeconds(1);
+    private static final String BODY = """
+            {"name":"Первый","email":"first@practicum.ru"}
+            {"name":"Второй","email":"second@practicum.ru"}
+            """;
+
+    static final AtomicReference<String> receivedBody = new AtomicReference<>();
+    static final AtomicReference<String> receivedLength = new AtomicReference<>();
+    static HttpServer stubServer;
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void stubServerUrl(DynamicPropertyRegistry registry) throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                receivedBody.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            receivedLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            try {
+                Thread.sleep(SERVER_DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"line\":1,\"status\":\"CREATED\",\"id\":1}\n".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + stubServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void importStreamsBodyAndOutlivesRegularResponseTimeout() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/users/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .header("Accept", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"status\":\"CREATED\"");
+        assertThat(receivedBody.get()).isEqualTo(BODY);
+        assertThat(receivedLength.get()).isNull();
+    }
+}
@@ -0,0 +1,142 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "shareit-gateway.cache.max-entries=100",
+        "shareit-gateway.cache.ttl=500ms"
+})
+public class GatewayResponseCacheTest {
+    private static final Duration TTL = Duration.ofMillis(500);
+
+    static final AtomicInteger version = new AtomicInteger(1);
+    static final AtomicInteger itemReads = new AtomicInteger();
+    static final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    static HttpServer stubServer;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    GatewayResponseCache responseCache;
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void stubServerUrl(DynamicPropertyRegistry registry) throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/items/1", exchange -> {
+            itemReads.incrementAndGet();
+            String etag = "\"v" + version.get() + "\"";
+            String requestEtag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatch.add(String.valueOf(requestEtag));
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(requestEtag)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            respond(exchange, "{\"id\":1,\"name\":\"Дрель\",\"version\":" + version.get() + "}");
+        });
+        stubServer.createContext("/bookings/1", exchange -> {
+            version.incrementAndGet();
+            respond(exchange, "{\"id\":1,\"status\":\"APPROVED\"}");
+        });
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + stubServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        responseCache.evictAll();
+        version.set(1);
+        itemReads.set(0);
+        ifNoneMatch.clear();
+    }
+
+    @Test
+    void freshEntryIsServedWithoutCallingServer() throws Exception {
+        HttpResponse<String> first = getItem();
+        HttpResponse<String> second = getItem();
+
+        assertThat(second.statusCode()).isEqualTo(200);
+        assertThat(second.body()).isEqualTo(first.body());
+        assertThat(itemReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void staleEntryIsRevalidatedAndReusedOnNotModified() throws Exception {
+        HttpResponse<String> first = getItem();
+        Thread.sleep(TTL.plusMillis(200));
+
+        HttpResponse<String> second = getItem();
+
+        assertThat(second.statusCode()).isEqualTo(200);
+        assertThat(second.body()).isEqualTo(first.body());
+        assertThat(itemReads.get()).isEqualTo(2);
+        assertThat(ifNoneMatch).containsExactly("null", "\"v1\"");
+    }
+
+    @Test
+    void writeToAnotherResourceEvictsCachedItem() throws Exception {
+        getItem();
+
+        HttpResponse<String> approve = client.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/bookings/1?approved=true"))
+                .header("X-Sharer-User-Id", "1")
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> item = getItem();
+
+        assertThat(approve.statusCode()).isEqualTo(200);
+        assertThat(item.body()).contains("\"version\":2");
+        assertThat(itemReads.get()).isEqualTo(2);
+        assertThat(ifNoneMatch).containsExactly("null", "null");
+    }
+
+    private HttpResponse<String> getItem() throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/items/1"))
+                .header("X-Sharer-User-Id", "1")
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
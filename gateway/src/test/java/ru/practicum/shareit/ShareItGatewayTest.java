@@ -0,0 +1,24 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ShareItGatewayTest {
+    @Autowired
+    GatewayResponseCache responseCache;
+
+    @Test
+    void contextLoadsWithResponseCache() {
+        String key = GatewayResponseCache.key("http://localhost:9090/items/1", 1L);
+        responseCache.put(key, ResponseEntity.ok().build(), responseCache.generation());
+
+        GatewayResponseCache.Entry entry = responseCache.get(key);
+        assertThat(entry).isNotNull();
+        assertThat(responseCache.isFresh(entry)).isTrue();
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public void start() {
+        stats.clear();
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public void record(String endpoint, long latencyNanos, int status) {
+        if (!recording) {
+            return;
+        }
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+        endpointStats.add(latencyNanos);
+        endpointStats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 400) {
+            endpointStats.errors.increment();
+        }
+    }
+
+    public List<EndpointReport> report() {
+        List<EndpointReport> reports = new ArrayList<>();
+        new TreeMap<>(stats).forEach((endpoint, endpointStats) -> reports.add(endpointStats.report(endpoint)));
+        return reports;
+    }
+
+    public record EndpointReport(String endpoint,
+                                 long count,
+                                 long errors,
+                                 Map<Integer, Long> statuses,
+                                 double p50Ms,
+                                 double p95Ms,
+                                 double p99Ms,
+                                 double maxMs) {
+    }
+
+    private static class EndpointStats {
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private long[] latencies = new long[1024];
+        private int size;
+
+        private synchronized void add(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        private synchronized EndpointReport report(String endpoint) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            Map<Integer, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+            return new EndpointReport(endpoint, size, errors.sum(), statusCounts,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return toMillis(sorted[Math.max(index, 0)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
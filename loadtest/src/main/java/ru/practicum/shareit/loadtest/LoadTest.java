@@ -0,0 +1,160 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoadTest {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<ServiceProcess> processes = new ArrayList<>();
+        try {
+            URI gatewayUrl = config.gatewayUrl();
+            if (gatewayUrl == null) {
+                ServiceProcess server = ServiceProcess.start("server", config.serverJar(), config.serverPort(),
+                        config.serverArgs());
+                processes.add(server);
+                server.awaitHealthy(client);
+
+                ServiceProcess gateway = ServiceProcess.start("gateway", config.gatewayJar(), config.gatewayPort(),
+                        List.of("--shareit-server.url=" + server.baseUrl()));
+                processes.add(gateway);
+                gateway.awaitHealthy(client);
+                gatewayUrl = gateway.baseUrl();
+            }
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            ShareItWorkload workload = new ShareItWorkload(client, gatewayUrl, recorder);
+            System.out.printf("Наполнение данными: %d пользователей, %d вещей%n", config.seedUsers(), config.seedItems());
+            workload.seed(config.seedUsers(), config.seedItems());
+
+            System.out.printf("Прогрев: %s при %d rps%n", config.warmup(), config.rps());
+            drive(workload, config, config.warmup());
+
+            System.out.printf("Измерение: %s при %d rps%n", config.duration(), config.rps());
+            recorder.start();
+            drive(workload, config, config.duration());
+            recorder.stop();
+
+            List<LatencyRecorder.EndpointReport> report = recorder.report();
+            print(report);
+            write(config, report);
+        } finally {
+            processes.reversed().forEach(ServiceProcess::stop);
+        }
+    }
+
+    private static void drive(ShareItWorkload workload, LoadTestConfig config, Duration duration)
+            throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        WeightedMix mix = new WeightedMix(config.mix());
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / config.rps();
+        scheduler.scheduleAtFixedRate(() -> {
+            CompletableFuture<?> operation;
+            try {
+                operation = workload.run(mix.next());
+            } catch (RuntimeException e) {
+                operation = CompletableFuture.failedFuture(e);
+            }
+            synchronized (inFlight) {
+                inFlight.removeIf(CompletableFuture::isDone);
+                inFlight.add(operation);
+            }
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(duration.toMillis());
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+
+        CompletableFuture<?>[] pending;
+        synchronized (inFlight) {
+            pending = inFlight.toArray(CompletableFuture[]::new);
+        }
+        try {
+            CompletableFuture.allOf(pending)
+                    .exceptionally(e -> null)
+                    .get(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.out.printf("Не дождались завершения %d запросов: %s%n", pending.length, e);
+        }
+    }
+
+    private static void print(List<LatencyRecorder.EndpointReport> report) {
+        System.out.printf("%-26s %8s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "p50 ms", "p95 ms",
+                "p99 ms", "max ms");
+        for (LatencyRecorder.EndpointReport endpoint : report) {
+            System.out.printf("%-26s %8d %7d %9.1f %9.1f %9.1f %9.1f%n", endpoint.endpoint(), endpoint.count(),
+                    endpoint.errors(), endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms(), endpoint.maxMs());
+        }
+    }
+
+    private static void write(LoadTestConfig config, List<LatencyRecorder.EndpointReport> report) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rps", config.rps());
+        result.put("duration", config.duration().toString());
+        result.put("mix", config.mix());
+        result.put("endpoints", report);
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.report().toFile(), result);
+        System.out.println("Отчёт сохранён в " + config.report().toAbsolutePath());
+    }
+
+    private static class WeightedMix {
+        private final List<String> operations = new ArrayList<>();
+        private final int[] cumulativeWeights;
+        private final int totalWeight;
+
+        private WeightedMix(Map<String, Integer> weights) {
+            cumulativeWeights = new int[weights.size()];
+            int total = 0;
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                total += entry.getValue();
+                cumulativeWeights[operations.size()] = total;
+                operations.add(entry.getKey());
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Суммарный вес операций должен быть положительным");
+            }
+            totalWeight = total;
+        }
+
+        private String next() {
+            int point = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (point < cumulativeWeights[i]) {
+                    return operations.get(i);
+                }
+            }
+            return operations.getLast();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestConfig(URI gatewayUrl,
+                             Path serverJar,
+                             Path gatewayJar,
+                             int serverPort,
+                             int gatewayPort,
+                             List<String> serverArgs,
+                             int rps,
+                             Duration duration,
+                             Duration warmup,
+                             int seedUsers,
+                             int seedItems,
+                             Map<String, Integer> mix,
+                             Path report) {
+
+    private static final String DEFAULT_MIX = "createUser=3,createItem=7,search=20,getItem=20,ownerItems=10,"
+            + "createBooking=12,addComment=5,createRequest=5,allRequests=10,ownRequests=8";
+    private static final String DEFAULT_SERVER_ARGS = "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1"
+            + " --spring.datasource.driverClassName=org.h2.Driver"
+            + " --shareit.item.search.engine=like";
+
+    public static LoadTestConfig fromSystemProperties() {
+        String gatewayUrl = System.getProperty("loadtest.gateway-url");
+        return new LoadTestConfig(
+                gatewayUrl != null ? URI.create(gatewayUrl) : null,
+                Path.of(System.getProperty("loadtest.server-jar", "server/target/shareit-server-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(System.getProperty("loadtest.gateway-jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar")),
+                Integer.getInteger("loadtest.server-port", 19090),
+                Integer.getInteger("loadtest.gateway-port", 18080),
+                Arrays.asList(System.getProperty("loadtest.server-args", DEFAULT_SERVER_ARGS).trim().split("\\s+")),
+                Integer.getInteger("loadtest.rps", 50),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Integer.getInteger("loadtest.seed-users", 50),
+                Integer.getInteger("loadtest.seed-items", 200),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report", "loadtest-report.json")));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Неверный формат смеси операций: " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
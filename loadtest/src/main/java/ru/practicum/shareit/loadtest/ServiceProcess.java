@@ -0,0 +1,68 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ServiceProcess {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    private final String name;
+    private final Process process;
+    private final URI baseUrl;
+
+    private ServiceProcess(String name, Process process, URI baseUrl) {
+        this.name = name;
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    public static ServiceProcess start(String name, Path jar, int port, List<String> args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of(System.getProperty("java.io.tmpdir"), "shareit-" + name + ".log").toFile())
+                .start();
+        return new ServiceProcess(name, process, URI.create("http://localhost:" + port));
+    }
+
+    public URI baseUrl() {
+        return baseUrl;
+    }
+
+    public void awaitHealthy(HttpClient client) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/actuator/health")).GET().build();
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Процесс " + name + " завершился при запуске");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // ещё не слушает порт
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Процесс " + name + " не запустился за " + STARTUP_TIMEOUT);
+    }
+
+    public void stop() {
+        process.destroy();
+    }
+}
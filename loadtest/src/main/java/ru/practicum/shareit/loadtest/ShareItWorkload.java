@@ -0,0 +1,220 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ShareItWorkload {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String[] WORDS = {"дрель", "перфоратор", "отвёртка", "пила", "лестница", "палатка",
+            "велосипед", "самокат", "проектор", "гитара", "аккумуляторная", "туристическая", "складная"};
+
+    private final HttpClient client;
+    private final URI gatewayUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Long> userIds = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> itemIds = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Long, Long> itemOwners = new ConcurrentHashMap<>();
+    private final Queue<FinishedBooking> finishedBookings = new ConcurrentLinkedQueue<>();
+
+    public ShareItWorkload(HttpClient client, URI gatewayUrl, LatencyRecorder recorder) {
+        this.client = client;
+        this.gatewayUrl = gatewayUrl;
+        this.recorder = recorder;
+    }
+
+    public void seed(int users, int items) {
+        for (int i = 0; i < users; i++) {
+            createUser().join();
+        }
+        for (int i = 0; i < items; i++) {
+            createItem().join();
+        }
+    }
+
+    public CompletableFuture<?> run(String operation) {
+        return switch (operation) {
+            case "createUser" -> createUser();
+            case "createItem" -> createItem();
+            case "search" -> search();
+            case "getItem" -> getItem();
+            case "ownerItems" -> ownerItems();
+            case "createBooking" -> createAndApproveBooking();
+            case "addComment" -> addComment();
+            case "createRequest" -> createRequest();
+            case "allRequests" -> allRequests();
+            case "ownRequests" -> ownRequests();
+            default -> throw new IllegalArgumentException("Неизвестная операция: " + operation);
+        };
+    }
+
+    private CompletableFuture<?> createUser() {
+        long number = sequence.incrementAndGet();
+        String body = "{\"name\":\"Пользователь " + number + "\",\"email\":\"load-" + runId + "-" + number
+                + "@practicum.ru\"}";
+        return send("POST /users", post("/users", null, body))
+                .thenAccept(response -> readId(response).ifPresent(userIds::add));
+    }
+
+    private CompletableFuture<?> createItem() {
+        long ownerId = randomOf(userIds);
+        String body = "{\"name\":\"" + text(2) + "\",\"description\":\"" + text(6) + "\",\"available\":true}";
+        return send("POST /items", post("/items", ownerId, body))
+                .thenAccept(response -> readId(response).ifPresent(itemId -> {
+                    itemOwners.put(itemId, ownerId);
+                    itemIds.add(itemId);
+                }));
+    }
+
+    private CompletableFuture<?> search() {
+        String text = URLEncoder.encode(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)],
+                StandardCharsets.UTF_8);
+        return send("GET /items/search", get("/items/search?text=" + text, randomOf(userIds)));
+    }
+
+    private CompletableFuture<?> getItem() {
+        return send("GET /items/{id}", get("/items/" + randomOf(itemIds), randomOf(userIds)));
+    }
+
+    private CompletableFuture<?> ownerItems() {
+        long itemId = randomOf(itemIds);
+        return send("GET /items", get("/items", itemOwners.get(itemId)));
+    }
+
+    private CompletableFuture<?> createAndApproveBooking() {
+        long itemId = randomOf(itemIds);
+        long ownerId = itemOwners.get(itemId);
+        long bookerId = randomOf(userIds);
+        if (bookerId == ownerId) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LocalDateTime start = LocalDateTime.now().plusSeconds(1);
+        LocalDateTime end = start.plusSeconds(2);
+        String body = "{\"itemId\":" + itemId + ",\"start\":\"" + DATE_TIME.format(start) + "\",\"end\":\""
+                + DATE_TIME.format(end) + "\"}";
+        return send("POST /bookings", post("/bookings", bookerId, body))
+                .thenCompose(response -> readId(response)
+                        .map(bookingId -> send("PATCH /bookings/{id}",
+                                patch("/bookings/" + bookingId + "?approved=true", ownerId))
+                                .thenAccept(approval -> {
+                                    if (approval != null && approval.statusCode() == 200) {
+                                        finishedBookings.add(new FinishedBooking(bookerId, itemId, end));
+                                    }
+                                }))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null)));
+    }
+
+    private CompletableFuture<?> addComment() {
+        FinishedBooking booking = finishedBookings.peek();
+        if (booking == null || !booking.end().isBefore(LocalDateTime.now()) || !finishedBookings.remove(booking)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String body = "{\"text\":\"" + text(5) + "\"}";
+        return send("POST /items/{id}/comment",
+                post("/items/" + booking.itemId() + "/comment", booking.bookerId(), body));
+    }
+
+    private CompletableFuture<?> createRequest() {
+        String body = "{\"description\":\"Нужна " + text(3) + "\"}";
+        return send("POST /requests", post("/requests", randomOf(userIds), body));
+    }
+
+    private CompletableFuture<?> allRequests() {
+        return send("GET /requests/all", get("/requests/all?from=0&size=20", randomOf(userIds)));
+    }
+
+    private CompletableFuture<?> ownRequests() {
+        return send("GET /requests", get("/requests", randomOf(userIds)));
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(String endpoint, HttpRequest request) {
+        long started = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    int status = response != null ? response.statusCode() : 0;
+                    recorder.record(endpoint, System.nanoTime() - started, status);
+                    return response;
+                });
+    }
+
+    private Optional<Long> readId(HttpResponse<String> response) {
+        if (response == null || response.statusCode() >= 300) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode id = mapper.readTree(response.body()).get("id");
+            return id != null && id.canConvertToLong() ? Optional.of(id.asLong()) : Optional.empty();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private HttpRequest get(String path, Long userId) {
+        return request(path, userId).GET().build();
+    }
+
+    private HttpRequest post(String path, Long userId, String body) {
+        return request(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private HttpRequest patch(String path, Long userId) {
+        return request(path, userId)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(gatewayUrl.resolve(path))
+                .header("Accept", "application/json");
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder;
+    }
+
+    private static long randomOf(List<Long> ids) {
+        synchronized (ids) {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+    }
+
+    private static String text(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private record FinishedBooking(long bookerId, long itemId, LocalDateTime end) {
+    }
+}
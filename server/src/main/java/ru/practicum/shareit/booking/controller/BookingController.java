@@ -1,13 +1,22 @@
 package ru.practicum.shareit.booking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingRequest;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.web.NdjsonResponseWriter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,6 +26,7 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -38,9 +48,35 @@ public class BookingController {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<BookingDto> getBookingsByBookerId(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                  @RequestParam(value = "state", defaultValue = "ALL") String state) {
-        log.debug("Принят запрос на получение бронирований пользователя с id={} со статусом: {}", userId, state);
-        return bookingService.getBookingsByBookerId(userId, state);
+                                                  @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                  @RequestParam(value = "from", defaultValue = "0") Integer from,
+                                                  @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        log.debug("Принят запрос на получение бронирований пользователя с id={} со статусом: {}, from={}, size={}",
+                userId, state, from, size);
+        return bookingService.getBookingsByBookerId(userId, state, from, size);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<BookingDto>> getBookingsByBookerIdAfterCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(value = "state", defaultValue = "ALL") String state,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        log.debug("Принят запрос на получение бронирований пользователя с id={} со статусом: {}, cursor={}, size={}",
+                userId, state, cursor, size);
+        return toResponse(bookingService.getBookingsByBookerIdAfterCursor(userId, state, cursor, size));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamBookingsByBookerId(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                         @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на потоковую выгрузку бронирований пользователя с id={} со статусом: {}",
+                userId, state);
+        NdjsonResponseWriter<BookingDto> writer = new NdjsonResponseWriter<>(objectMapper, request, response);
+        bookingService.streamBookingsByBookerId(userId, state, writer);
+        writer.finish();
     }
 
     @GetMapping("/owner")
@@ -51,6 +87,28 @@ public class BookingController {
         return bookingService.getBookingsByOwnerId(userId, state);
     }
 
+    @GetMapping(value = "/owner", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamBookingsByOwnerId(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                        @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                        HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на потоковую выгрузку бронирований владельца с id={} со статусом: {}", userId, state);
+        NdjsonResponseWriter<BookingDto> writer = new NdjsonResponseWriter<>(objectMapper, request, response);
+        bookingService.streamBookingsByOwnerId(userId, state, writer);
+        writer.finish();
+    }
+
+    @GetMapping(value = "/owner", params = "cursor")
+    public ResponseEntity<List<BookingDto>> getBookingsByOwnerIdAfterCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(value = "state", defaultValue = "ALL") String state,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        log.debug("Принят запрос на получение бронирований владельца с id={} со статусом: {}, cursor={}, size={}",
+                userId, state, cursor, size);
+        return toResponse(bookingService.getBookingsByOwnerIdAfterCursor(userId, state, cursor, size));
+    }
+
     @PatchMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.OK)
     public BookingDto updateBookingStatus(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -60,4 +118,12 @@ public class BookingController {
                 bookingId, userId, approved);
         return bookingService.updateBookingStatus(userId, bookingId, approved);
     }
+
+    private static ResponseEntity<List<BookingDto>> toResponse(CursorPage<BookingDto> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNext() != null) {
+            response.header(PageCursor.NEXT_CURSOR_HEADER, page.getNext());
+        }
+        return response.body(page.getContent());
+    }
 }
\ No newline at end of file
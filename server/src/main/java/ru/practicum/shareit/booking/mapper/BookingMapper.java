@@ -8,6 +8,9 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BookingMapper {
 
@@ -24,8 +27,12 @@ public class BookingMapper {
 
     public static Booking toBooking(NewBookingRequest request) {
         return Booking.builder()
-                .start(request.getStart())
-                .end(request.getEnd())
+                .start(toStoredPrecision(request.getStart()))
+                .end(toStoredPrecision(request.getEnd()))
                 .build();
     }
+
+    private static LocalDateTime toStoredPrecision(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.truncatedTo(ChronoUnit.MICROS) : null;
+    }
 }
\ No newline at end of file
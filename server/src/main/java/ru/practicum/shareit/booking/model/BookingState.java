@@ -0,0 +1,16 @@
+package ru.practicum.shareit.booking.model;
+
+public enum BookingState {
+    // Все
+    ALL,
+    // Текущие
+    CURRENT,
+    // Будущие
+    FUTURE,
+    // Завершенные
+    PAST,
+    // Отклоненные
+    REJECTED,
+    // Ожидающие подтверждения
+    WAITING
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.booking.repository;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.pagination.PageCursor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BookingKeysetRepository {
+    List<Booking> findBookerPage(Long bookerId, BookingState state, PageCursor after, int size);
+
+    List<Booking> findOwnerPage(Long ownerId, BookingState state, PageCursor after, int size);
+
+    List<Booking> findOwnerBookings(Long ownerId, BookingState state);
+
+    Stream<Booking> streamBookerBookings(Long bookerId, BookingState state);
+
+    Stream<Booking> streamOwnerBookings(Long ownerId, BookingState state);
+}
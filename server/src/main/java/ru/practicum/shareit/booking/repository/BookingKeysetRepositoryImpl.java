@@ -0,0 +1,91 @@
+package ru.practicum.shareit.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.pagination.PageCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class BookingKeysetRepositoryImpl implements BookingKeysetRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Booking> findBookerPage(Long bookerId, BookingState state, PageCursor after, int size) {
+        return findPage("b.booker.id = :userId", bookerId, state, after, size);
+    }
+
+    @Override
+    public List<Booking> findOwnerPage(Long ownerId, BookingState state, PageCursor after, int size) {
+        return findPage("b.item.owner.id = :userId", ownerId, state, after, size);
+    }
+
+    @Override
+    public List<Booking> findOwnerBookings(Long ownerId, BookingState state) {
+        return createQuery("b.item.owner.id = :userId", ownerId, state, null).getResultList();
+    }
+
+    @Override
+    public Stream<Booking> streamBookerBookings(Long bookerId, BookingState state) {
+        return createQuery("b.booker.id = :userId", bookerId, state, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<Booking> streamOwnerBookings(Long ownerId, BookingState state) {
+        return createQuery("b.item.owner.id = :userId", ownerId, state, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private List<Booking> findPage(String userCondition, Long userId, BookingState state, PageCursor after,
+                                   int size) {
+        return createQuery(userCondition, userId, state, after)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private TypedQuery<Booking> createQuery(String userCondition, Long userId, BookingState state,
+                                            PageCursor after) {
+        StringBuilder jpql = new StringBuilder("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE ")
+                .append(userCondition);
+        switch (state) {
+            case CURRENT -> jpql.append(" AND b.start <= :now AND b.end >= :now");
+            case PAST -> jpql.append(" AND b.end < :now");
+            case FUTURE -> jpql.append(" AND b.start > :now");
+            case WAITING, REJECTED -> jpql.append(" AND b.status = :status");
+            default -> {
+            }
+        }
+        if (after != null) {
+            jpql.append(" AND b.start <= :afterStart AND (b.start < :afterStart OR b.id < :afterId)");
+        }
+        jpql.append(" ORDER BY b.start DESC, b.id DESC");
+
+        TypedQuery<Booking> query = entityManager.createQuery(jpql.toString(), Booking.class)
+                .setParameter("userId", userId);
+        switch (state) {
+            case CURRENT, PAST, FUTURE -> query.setParameter("now", LocalDateTime.now());
+            case WAITING, REJECTED -> query.setParameter("status", BookingStatus.valueOf(state.name()));
+            default -> {
+            }
+        }
+        if (after != null) {
+            query.setParameter("afterStart", after.getPosition())
+                    .setParameter("afterId", after.getId());
+        }
+        return query;
+    }
+}
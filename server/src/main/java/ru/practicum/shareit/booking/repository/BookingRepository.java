@@ -1,32 +1,62 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingKeysetRepository {
 
     List<Booking> findAllByStatus(BookingStatus bookingStatus);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1")
-    List<Booking> findAllByBookerId(Long userId);
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.id = ?1")
+    Optional<Booking> findWithItemAndBookerById(Long bookingId);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = ?1 AND b.status = ?2")
-    List<Booking> findAllByBookerIdAndStatus(Long userId, BookingStatus bookingStatus);
+    @Query("SELECT b.status FROM Booking b WHERE b.id = ?1")
+    BookingStatus findStatusById(Long bookingId);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1")
-    List<Booking> findAllByOwnerId(Long userId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = ?3, b.version = b.version + 1 WHERE b.id = ?1 AND b.status = ?2")
+    int updateStatus(Long bookingId, BookingStatus expected, BookingStatus status);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.owner.id = ?1 AND b.status = ?2")
-    List<Booking> findAllByOwnerIdAndStatus(Long userId, BookingStatus bookingStatus);
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.booker.id = ?1")
+    List<Booking> findAllByBookerId(Long userId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.booker.id = ?1 AND b.status = ?2")
+    List<Booking> findAllByBookerIdAndStatus(Long userId, BookingStatus bookingStatus, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = ?1 AND b.start <= ?2 AND b.end >= ?2")
+    List<Booking> findCurrentByBookerId(Long userId, LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.booker.id = ?1 AND b.end < ?2")
+    List<Booking> findPastByBookerId(Long userId, LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.booker.id = ?1 AND b.start > ?2")
+    List<Booking> findFutureByBookerId(Long userId, LocalDateTime now, Pageable pageable);
 
     List<Booking> findAllByItemId(Long itemId);
 
-    List<Booking> findAllByItemOwnerId(Long ownerId, Sort sortOrder);
+    @Query(value = "SELECT ranked.id FROM (" +
+            "SELECT b.id, ROW_NUMBER() OVER (" +
+            "PARTITION BY b.item_id, CASE WHEN b.start_date > :now THEN 1 ELSE 0 END " +
+            "ORDER BY CASE WHEN b.start_date > :now THEN b.start_date END ASC, b.start_date DESC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status = 'APPROVED'" +
+            ") AS ranked WHERE ranked.rn = 1", nativeQuery = true)
+    List<Long> findLastAndNextApprovedBookingIds(@Param("itemIds") Collection<Long> itemIds,
+                                                 @Param("now") LocalDateTime now);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.id IN ?1")
+    List<Booking> findAllWithItemAndBookerByIdIn(Collection<Long> bookingIds);
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingRequest;
+import ru.practicum.shareit.pagination.CursorPage;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookingService {
     BookingDto createBooking(Long userId, NewBookingRequest request);
@@ -12,7 +14,15 @@ public interface BookingService {
 
     BookingDto getBooking(Long userId, Long bookingId);
 
-    List<BookingDto> getBookingsByBookerId(Long userId, String state);
+    List<BookingDto> getBookingsByBookerId(Long userId, String state, Integer from, Integer size);
+
+    CursorPage<BookingDto> getBookingsByBookerIdAfterCursor(Long userId, String state, String cursor, Integer size);
 
     List<BookingDto> getBookingsByOwnerId(Long userId, String state);
+
+    CursorPage<BookingDto> getBookingsByOwnerIdAfterCursor(Long userId, String state, String cursor, Integer size);
+
+    void streamBookingsByBookerId(Long userId, String state, Consumer<BookingDto> consumer);
+
+    void streamBookingsByOwnerId(Long userId, String state, Consumer<BookingDto> consumer);
 }
\ No newline at end of file
@@ -1,46 +1,58 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingRequest;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.BookingConflictException;
 import ru.practicum.shareit.exception.ItemNotAvailableException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.NotOwnerException;
 import ru.practicum.shareit.exception.ParameterNotValidException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
-import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 
-import java.util.Comparator;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 public class BookingServiceImpl implements BookingService {
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final int STREAM_CLEAR_INTERVAL = 500;
 
     private final BookingRepository bookingRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public BookingDto createBooking(Long bookerId, NewBookingRequest request) {
-        User booker = userRepository.findById(bookerId)
-                .orElseThrow(() -> {
-                    log.error("Пользователь с id {} не найден", bookerId);
-                    return new NotFoundException("Пользователь с id " + bookerId + " не найден");
-                });
+        User booker = userService.getUser(bookerId);
         Item item = itemRepository.findById(request.getItemId())
                 .orElseThrow(() -> {
                     log.error("Вещь с id {} не найдена", request.getItemId());
@@ -77,44 +89,81 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getBookingsByBookerId(Long bookerId, String state) {
-        validateBookingState(state);
-
-        if (state.equals("ALL")) {
-            return bookingRepository.findAllByBookerId(bookerId).stream()
-                    .sorted(Comparator.comparing(Booking::getStart).reversed())
-                    .map(BookingMapper::toBookingDto)
-                    .toList();
-        } else {
-            return bookingRepository.findAllByBookerIdAndStatus(bookerId, BookingStatus.valueOf(state.toUpperCase()))
-                    .stream()
-                    .sorted(Comparator.comparing(Booking::getStart).reversed())
-                    .map(BookingMapper::toBookingDto)
-                    .toList();
-        }
+    public List<BookingDto> getBookingsByBookerId(Long bookerId, String state, Integer from, Integer size) {
+        BookingState bookingState = validateBookingState(state);
+        validatePagination(from, size);
+        userService.validateUserExist(bookerId);
+
+        Pageable page = OffsetPageRequest.of(from, size, Sort.by(Sort.Direction.DESC, "start"));
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings = switch (bookingState) {
+            case CURRENT -> bookingRepository.findCurrentByBookerId(bookerId, now, page);
+            case PAST -> bookingRepository.findPastByBookerId(bookerId, now, page);
+            case FUTURE -> bookingRepository.findFutureByBookerId(bookerId, now, page);
+            case WAITING, REJECTED ->
+                    bookingRepository.findAllByBookerIdAndStatus(bookerId, BookingStatus.valueOf(state), page);
+            default -> bookingRepository.findAllByBookerId(bookerId, page);
+        };
+
+        return bookings.stream()
+                .map(BookingMapper::toBookingDto)
+                .toList();
     }
 
     @Override
-    public List<BookingDto> getBookingsByOwnerId(Long ownerId, String state) {
-        validateBookingState(state);
+    public CursorPage<BookingDto> getBookingsByBookerIdAfterCursor(Long bookerId, String state, String cursor,
+                                                                  Integer size) {
+        BookingState bookingState = validateBookingState(state);
+        validatePagination(0, size);
+        userService.validateUserExist(bookerId);
 
-        List<Booking> bookings;
-        if (state.equals("ALL")) {
-            bookings = bookingRepository.findAllByOwnerId(ownerId);
-        } else {
-            bookings = bookingRepository.findAllByOwnerIdAndStatus(ownerId, BookingStatus.valueOf(state.toUpperCase()));
-        }
+        List<Booking> bookings = bookingRepository.findBookerPage(bookerId, bookingState, PageCursor.decode(cursor),
+                size);
+        return toCursorPage(bookings, size);
+    }
 
-        if (bookings.isEmpty()) {
-            log.error("Список бронирований пуст");
-            throw new EmptyResultDataAccessException("Список бронирований пуст", 1);
-        }
+    @Override
+    public CursorPage<BookingDto> getBookingsByOwnerIdAfterCursor(Long ownerId, String state, String cursor,
+                                                                 Integer size) {
+        BookingState bookingState = validateBookingState(state);
+        validatePagination(0, size);
+        userService.validateUserExist(ownerId);
 
-        return bookings.stream()
+        List<Booking> bookings = bookingRepository.findOwnerPage(ownerId, bookingState, PageCursor.decode(cursor),
+                size);
+        return toCursorPage(bookings, size);
+    }
+
+    @Override
+    public List<BookingDto> getBookingsByOwnerId(Long ownerId, String state) {
+        BookingState bookingState = validateBookingState(state);
+        userService.validateUserExist(ownerId);
+
+        return bookingRepository.findOwnerBookings(ownerId, bookingState).stream()
                 .map(BookingMapper::toBookingDto)
                 .toList();
     }
 
+    @Override
+    public void streamBookingsByBookerId(Long bookerId, String state, Consumer<BookingDto> consumer) {
+        BookingState bookingState = validateBookingState(state);
+        userService.validateUserExist(bookerId);
+
+        try (Stream<Booking> bookings = bookingRepository.streamBookerBookings(bookerId, bookingState)) {
+            streamBookings(bookings, consumer);
+        }
+    }
+
+    @Override
+    public void streamBookingsByOwnerId(Long ownerId, String state, Consumer<BookingDto> consumer) {
+        BookingState bookingState = validateBookingState(state);
+        userService.validateUserExist(ownerId);
+
+        try (Stream<Booking> bookings = bookingRepository.streamOwnerBookings(ownerId, bookingState)) {
+            streamBookings(bookings, consumer);
+        }
+    }
+
     @Override
     @Transactional
     public BookingDto updateBookingStatus(Long ownerId, Long bookingId, Boolean approved) {
@@ -122,23 +171,73 @@ public class BookingServiceImpl implements BookingService {
 
         validateUserOwnership(ownerId, booking);
 
-        if (approved) {
-            booking.setStatus(BookingStatus.APPROVED);
-        } else {
-            booking.setStatus(BookingStatus.REJECTED);
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+
+        if (booking.getStatus() == status) {
+            return BookingMapper.toBookingDto(booking);
         }
 
-        return BookingMapper.toBookingDto(bookingRepository.save(booking));
+        int updated;
+        try {
+            updated = bookingRepository.updateStatus(bookingId, BookingStatus.WAITING, status);
+        } catch (DataIntegrityViolationException e) {
+            if (isBookingOverlap(e)) {
+                log.error("Бронирование с id {} пересекается с подтвержденным бронированием вещи", bookingId);
+                throw new BookingConflictException("Вещь уже забронирована на пересекающийся период");
+            }
+            throw e;
+        }
+
+        if (updated == 0 && bookingRepository.findStatusById(bookingId) != status) {
+            log.error("Статус бронирования с id {} уже изменен", bookingId);
+            throw new BookingConflictException("Статус бронирования с id " + bookingId + " уже изменен");
+        }
+
+        return BookingMapper.toBookingDto(getBookingById(bookingId));
     }
 
-    private void validateBookingState(String state) {
-        if (!state.equals("ALL") && !state.equals("CURRENT") && !state.equals("FUTURE")
-                && !state.equals("PAST") && !state.equals("WAITING") && !state.equals("REJECTED")) {
+    private static boolean isBookingOverlap(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState());
+    }
+
+    private BookingState validateBookingState(String state) {
+        try {
+            return BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
             log.error("Неверное состояние бронирования");
             throw new NotFoundException("Неверное состояние бронирования");
         }
     }
 
+    private CursorPage<BookingDto> toCursorPage(List<Booking> bookings, int size) {
+        String next = null;
+        if (bookings.size() == size) {
+            Booking last = bookings.getLast();
+            next = PageCursor.of(last.getStart(), last.getId()).encode();
+        }
+        return new CursorPage<>(bookings.stream()
+                .map(BookingMapper::toBookingDto)
+                .toList(), next);
+    }
+
+    private void streamBookings(Stream<Booking> bookings, Consumer<BookingDto> consumer) {
+        int streamed = 0;
+        for (Booking booking : (Iterable<Booking>) bookings::iterator) {
+            consumer.accept(BookingMapper.toBookingDto(booking));
+            if (++streamed % STREAM_CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+    }
+
+    private void validatePagination(Integer from, Integer size) {
+        if (from < 0 || size <= 0) {
+            log.error("Некорректные параметры пагинации: from={}, size={}", from, size);
+            throw new ParameterNotValidException("Параметр from не может быть отрицательным, а size должен быть положительным");
+        }
+    }
+
     private void validateUserOwnership(Long userId, Booking booking) {
         if (!booking.getItem().getOwner().getId().equals(userId) && !booking.getBooker().getId().equals(userId)) {
             log.error("Пользователь с id {} не является владельцем вещи с id {}", userId, booking.getItem().getId());
@@ -148,7 +247,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private Booking getBookingById(Long bookingId) {
-        return bookingRepository.findById(bookingId)
+        return bookingRepository.findWithItemAndBookerById(bookingId)
                 .orElseThrow(() -> {
                     log.error("Бронирование с id {} не найдено", bookingId);
                     return new NotFoundException("Бронирование с id " + bookingId + " не найдено");
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+public class ImportChunk<T> {
+    private final List<NdjsonLine> lines;
+    private final List<T> requests;
+    private final String[] errors;
+    private final Long[] ids;
+
+    ImportChunk(List<NdjsonLine> lines) {
+        this.lines = lines;
+        this.requests = new ArrayList<>(lines.size());
+        this.errors = new String[lines.size()];
+        this.ids = new Long[lines.size()];
+    }
+
+    void add(T request, String error) {
+        errors[requests.size()] = error;
+        requests.add(request);
+    }
+
+    public void forEachPending(ObjIntConsumer<T> action) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors[i] == null) {
+                action.accept(requests.get(i), i);
+            }
+        }
+    }
+
+    public void created(int index, Long id) {
+        ids[index] = id;
+    }
+
+    public void fail(int index, String error) {
+        errors[index] = error;
+        ids[index] = null;
+    }
+
+    boolean hasPending() {
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors[i] == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    ImportChunk<T> single(int index) {
+        ImportChunk<T> single = new ImportChunk<>(List.of(lines.get(index)));
+        single.add(requests.get(index), null);
+        return single;
+    }
+
+    void merge(int index, ImportChunk<T> single) {
+        errors[index] = single.errors[0];
+        ids[index] = single.ids[0];
+    }
+
+    void failPending(String error) {
+        forEachPending((request, index) -> fail(index, error));
+    }
+
+    List<ImportResult> results() {
+        List<ImportResult> results = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            results.add(ImportResult.builder()
+                    .line(lines.get(i).number())
+                    .status(errors[i] == null ? ImportStatus.CREATED : ImportStatus.FAILED)
+                    .id(ids[i])
+                    .error(errors[i])
+                    .build());
+        }
+        return results;
+    }
+}
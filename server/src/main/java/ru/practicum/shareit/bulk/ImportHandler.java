@@ -0,0 +1,10 @@
+package ru.practicum.shareit.bulk;
+
+import java.util.List;
+
+public interface ImportHandler<T, E> {
+    List<E> persist(ImportChunk<T> chunk);
+
+    default void stored(List<E> entities) {
+    }
+}
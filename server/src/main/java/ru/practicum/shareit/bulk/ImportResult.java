@@ -0,0 +1,18 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResult {
+    long line;
+    ImportStatus status;
+    Long id;
+    String error;
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.bulk;
+
+public enum ImportStatus {
+    CREATED,
+    FAILED;
+}
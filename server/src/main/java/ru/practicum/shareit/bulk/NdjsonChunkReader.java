@@ -0,0 +1,30 @@
+package ru.practicum.shareit.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NdjsonChunkReader {
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    public NdjsonChunkReader(InputStream body) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    public List<NdjsonLine> next(int size) throws IOException {
+        List<NdjsonLine> lines = new ArrayList<>(size);
+        String line;
+        while (lines.size() < size && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                lines.add(new NdjsonLine(lineNumber, line));
+            }
+        }
+        return lines;
+    }
+}
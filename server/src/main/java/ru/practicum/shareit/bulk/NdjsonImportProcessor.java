@@ -0,0 +1,109 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class NdjsonImportProcessor {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+
+    public NdjsonImportProcessor(ObjectMapper objectMapper,
+                                 Validator validator,
+                                 PlatformTransactionManager transactionManager,
+                                 EntityManager entityManager,
+                                 @Value("${shareit.import.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    public <T, E> void process(InputStream body, Class<T> type, ImportHandler<T, E> handler,
+                               Consumer<ImportResult> consumer) throws IOException {
+        NdjsonChunkReader reader = new NdjsonChunkReader(body);
+        List<NdjsonLine> lines;
+        while (!(lines = reader.next(chunkSize)).isEmpty()) {
+            ImportChunk<T> chunk = parse(lines, type);
+            if (chunk.hasPending()) {
+                store(chunk, handler, lines);
+            }
+            chunk.results().forEach(consumer);
+        }
+    }
+
+    private <T> ImportChunk<T> parse(List<NdjsonLine> lines, Class<T> type) {
+        ImportChunk<T> chunk = new ImportChunk<>(lines);
+        for (NdjsonLine line : lines) {
+            try {
+                T request = objectMapper.readValue(line.json(), type);
+                chunk.add(request, validate(request));
+            } catch (JsonProcessingException e) {
+                chunk.add(null, "Некорректная строка JSON: " + e.getOriginalMessage());
+            }
+        }
+        return chunk;
+    }
+
+    private String validate(Object request) {
+        return validator.validate(request).stream()
+                .min(Comparator.comparing((ConstraintViolation<Object> violation) ->
+                        violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private <T, E> void store(ImportChunk<T> chunk, ImportHandler<T, E> handler, List<NdjsonLine> lines) {
+        List<E> entities = new ArrayList<>();
+        try {
+            entities.addAll(persist(chunk, handler));
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            log.warn("Не удалось сохранить строки {}-{} пакетного импорта одним пакетом, сохраняем по одной: {}",
+                    lines.getFirst().number(), lines.getLast().number(), e.getMessage());
+            chunk.forEachPending((request, index) -> {
+                ImportChunk<T> single = chunk.single(index);
+                try {
+                    entities.addAll(persist(single, handler));
+                } catch (DataAccessException | PersistenceException | TransactionException lineException) {
+                    single.failPending("Ошибка сохранения: "
+                            + NestedExceptionUtils.getMostSpecificCause(lineException).getMessage());
+                }
+                chunk.merge(index, single);
+            });
+        }
+        handler.stored(entities);
+    }
+
+    private <T, E> List<E> persist(ImportChunk<T> chunk, ImportHandler<T, E> handler) {
+        return transactionTemplate.execute(status -> {
+            List<E> entities = handler.persist(chunk);
+            entityManager.flush();
+            entityManager.clear();
+            return entities;
+        });
+    }
+}
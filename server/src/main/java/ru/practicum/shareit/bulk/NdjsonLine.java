@@ -0,0 +1,4 @@
+package ru.practicum.shareit.bulk;
+
+public record NdjsonLine(long number, String json) {
+}
@@ -25,6 +25,15 @@ public class ErrorHandler {
         );
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleBookingConflict(final BookingConflictException e) {
+        return new ErrorResponse(
+                "Ошибка бронирования вещи!",
+                e.getMessage()
+        );
+    }
+
     @ExceptionHandler()
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorResponse handleConstraintViolation(final NotOwnerException e) {
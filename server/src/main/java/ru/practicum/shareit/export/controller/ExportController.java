@@ -0,0 +1,53 @@
+package ru.practicum.shareit.export.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import ru.practicum.shareit.export.model.ExportFormat;
+import ru.practicum.shareit.export.model.ExportTable;
+import ru.practicum.shareit.export.service.ExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @GetMapping("/{table}")
+    public void export(@PathVariable("table") String table,
+                       @RequestParam(name = "format", defaultValue = "csv") String format,
+                       @RequestParam(name = "gzip", defaultValue = "true") boolean gzip,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на выгрузку таблицы {} в формате {}, gzip={}", table, format, gzip);
+        ExportTable exportTable = ExportTable.from(table);
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        String fileName = exportTable.getFileName() + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)
+                : response.getOutputStream();
+        exportService.export(exportTable, exportFormat, out);
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.export.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+@Getter
+@RequiredArgsConstructor
+public enum ColumnType {
+    LONG(1),
+    STRING(2),
+    TIMESTAMP(3),
+    BOOLEAN(4);
+
+    private final int code;
+
+    public Object read(ResultSet rs, int index) throws SQLException {
+        Object value = switch (this) {
+            case LONG -> rs.getLong(index);
+            case STRING -> rs.getString(index);
+            case TIMESTAMP -> {
+                Timestamp timestamp = rs.getTimestamp(index);
+                yield timestamp != null ? timestamp.toLocalDateTime() : null;
+            }
+            case BOOLEAN -> rs.getBoolean(index);
+        };
+        return rs.wasNull() ? null : value;
+    }
+}
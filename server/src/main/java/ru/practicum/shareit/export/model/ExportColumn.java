@@ -0,0 +1,4 @@
+package ru.practicum.shareit.export.model;
+
+public record ExportColumn(String name, ColumnType type) {
+}
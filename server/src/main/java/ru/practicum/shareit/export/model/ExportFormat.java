@@ -0,0 +1,36 @@
+package ru.practicum.shareit.export.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import ru.practicum.shareit.exception.ParameterNotValidException;
+import ru.practicum.shareit.export.writer.ColumnarExportWriter;
+import ru.practicum.shareit.export.writer.CsvExportWriter;
+import ru.practicum.shareit.export.writer.ExportWriter;
+
+import java.io.OutputStream;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV(".csv", "text/csv", CsvExportWriter::new),
+    COLUMNAR(".col", MediaType.APPLICATION_OCTET_STREAM_VALUE, ColumnarExportWriter::new);
+
+    private final String extension;
+    private final String contentType;
+    private final Function<OutputStream, ExportWriter> writerFactory;
+
+    public ExportWriter writer(OutputStream out) {
+        return writerFactory.apply(out);
+    }
+
+    public static ExportFormat from(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new ParameterNotValidException("Неизвестный формат выгрузки: " + name);
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.export.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.exception.ParameterNotValidException;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportTable {
+    BOOKINGS("bookings",
+            "SELECT id, item_id, user_id, start_date, end_date, status FROM bookings ORDER BY id",
+            List.of(new ExportColumn("id", ColumnType.LONG),
+                    new ExportColumn("item_id", ColumnType.LONG),
+                    new ExportColumn("booker_id", ColumnType.LONG),
+                    new ExportColumn("start", ColumnType.TIMESTAMP),
+                    new ExportColumn("end", ColumnType.TIMESTAMP),
+                    new ExportColumn("status", ColumnType.STRING))),
+    ITEMS("items",
+            "SELECT id, name, description, user_id, is_available, request_id FROM items ORDER BY id",
+            List.of(new ExportColumn("id", ColumnType.LONG),
+                    new ExportColumn("name", ColumnType.STRING),
+                    new ExportColumn("description", ColumnType.STRING),
+                    new ExportColumn("owner_id", ColumnType.LONG),
+                    new ExportColumn("available", ColumnType.BOOLEAN),
+                    new ExportColumn("request_id", ColumnType.LONG))),
+    COMMENTS("comments",
+            "SELECT id, item_id, author_id, text, created FROM comments ORDER BY id",
+            List.of(new ExportColumn("id", ColumnType.LONG),
+                    new ExportColumn("item_id", ColumnType.LONG),
+                    new ExportColumn("author_id", ColumnType.LONG),
+                    new ExportColumn("text", ColumnType.STRING),
+                    new ExportColumn("created", ColumnType.TIMESTAMP)));
+
+    private final String fileName;
+    private final String sql;
+    private final List<ExportColumn> columns;
+
+    public static ExportTable from(String name) {
+        for (ExportTable table : values()) {
+            if (table.fileName.equalsIgnoreCase(name)) {
+                return table;
+            }
+        }
+        throw new ParameterNotValidException("Неизвестная таблица для выгрузки: " + name);
+    }
+}
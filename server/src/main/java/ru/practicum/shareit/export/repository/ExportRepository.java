@@ -0,0 +1,36 @@
+package ru.practicum.shareit.export.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.export.model.ExportColumn;
+import ru.practicum.shareit.export.model.ExportTable;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+public class ExportRepository {
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public long stream(ExportTable table, Consumer<Object[]> consumer) {
+        List<ExportColumn> columns = table.getColumns();
+        Object[] values = new Object[columns.size()];
+        long[] rows = new long[1];
+        jdbcTemplate.query(table.getSql(), rs -> {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = columns.get(i).type().read(rs, i + 1);
+            }
+            consumer.accept(values);
+            rows[0]++;
+        });
+        return rows[0];
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.export.service;
+
+import ru.practicum.shareit.export.model.ExportFormat;
+import ru.practicum.shareit.export.model.ExportTable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void export(ExportTable table, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.export.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.export.model.ExportFormat;
+import ru.practicum.shareit.export.model.ExportTable;
+import ru.practicum.shareit.export.repository.ExportRepository;
+import ru.practicum.shareit.export.writer.ExportWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+@Timed(value = "shareit.service", histogram = true)
+public class ExportServiceImpl implements ExportService {
+    private final ExportRepository exportRepository;
+
+    @Override
+    public void export(ExportTable table, ExportFormat format, OutputStream out) throws IOException {
+        ExportWriter writer = format.writer(out);
+        writer.start(table.getColumns());
+        long rows = exportRepository.stream(table, writer::row);
+        writer.finish();
+        log.info("Выгрузка таблицы {} в формате {} завершена, строк: {}", table.getFileName(), format, rows);
+    }
+}
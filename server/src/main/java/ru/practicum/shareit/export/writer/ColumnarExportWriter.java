@@ -0,0 +1,151 @@
+package ru.practicum.shareit.export.writer;
+
+import ru.practicum.shareit.export.model.ExportColumn;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+// Заголовок: "SHRC", версия, число колонок, имена и типы колонок.
+// Далее группы строк: число строк, затем по каждой колонке битовая маска не-null значений и сами значения.
+// Числа и даты (мс эпохи UTC) пишутся дельтами в zigzag-varint, строки — длиной в varint и UTF-8.
+// Поток завершается группой из нуля строк.
+public class ColumnarExportWriter implements ExportWriter {
+    static final byte[] MAGIC = {'S', 'H', 'R', 'C'};
+    static final int VERSION = 1;
+    static final int ROW_GROUP_SIZE = 4096;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataOutputStream out;
+    private List<ExportColumn> columns;
+    private Object[][] group;
+    private int rows;
+
+    public ColumnarExportWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+    }
+
+    @Override
+    public void start(List<ExportColumn> columns) throws IOException {
+        this.columns = columns;
+        this.group = new Object[columns.size()][ROW_GROUP_SIZE];
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        writeVarLong(columns.size());
+        for (ExportColumn column : columns) {
+            out.writeUTF(column.name());
+            out.writeByte(column.type().getCode());
+        }
+    }
+
+    @Override
+    public void row(Object[] values) {
+        for (int column = 0; column < values.length; column++) {
+            group[column][rows] = values[column];
+        }
+        if (++rows == ROW_GROUP_SIZE) {
+            try {
+                writeGroup();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeGroup();
+        }
+        writeVarLong(0);
+        out.flush();
+    }
+
+    private void writeGroup() throws IOException {
+        writeVarLong(rows);
+        for (int column = 0; column < columns.size(); column++) {
+            Object[] values = group[column];
+            writePresence(values);
+            switch (columns.get(column).type()) {
+                case LONG -> writeDeltas(values, false);
+                case TIMESTAMP -> writeDeltas(values, true);
+                case BOOLEAN -> writeBooleans(values);
+                case STRING -> writeStrings(values);
+            }
+            Arrays.fill(values, 0, rows, null);
+        }
+        rows = 0;
+    }
+
+    private void writePresence(Object[] values) throws IOException {
+        int bits = 0;
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != null) {
+                bits |= 1 << (i % 8);
+            }
+            if (i % 8 == 7 || i == rows - 1) {
+                out.writeByte(bits);
+                bits = 0;
+            }
+        }
+    }
+
+    private void writeDeltas(Object[] values, boolean timestamps) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != null) {
+                long value = timestamps
+                        ? ((LocalDateTime) values[i]).toInstant(ZoneOffset.UTC).toEpochMilli()
+                        : (Long) values[i];
+                long delta = value - previous;
+                writeVarLong((delta << 1) ^ (delta >> 63));
+                previous = value;
+            }
+        }
+    }
+
+    private void writeBooleans(Object[] values) throws IOException {
+        int bits = 0;
+        int count = 0;
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != null) {
+                if ((Boolean) values[i]) {
+                    bits |= 1 << count;
+                }
+                if (++count == 8) {
+                    out.writeByte(bits);
+                    bits = 0;
+                    count = 0;
+                }
+            }
+        }
+        if (count > 0) {
+            out.writeByte(bits);
+        }
+    }
+
+    private void writeStrings(Object[] values) throws IOException {
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != null) {
+                byte[] bytes = ((String) values[i]).getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
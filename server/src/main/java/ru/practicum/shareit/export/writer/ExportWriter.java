@@ -0,0 +1,14 @@
+package ru.practicum.shareit.export.writer;
+
+import ru.practicum.shareit.export.model.ExportColumn;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface ExportWriter {
+    void start(List<ExportColumn> columns) throws IOException;
+
+    void row(Object[] values);
+
+    void finish() throws IOException;
+}
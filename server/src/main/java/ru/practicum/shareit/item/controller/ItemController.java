@@ -1,16 +1,24 @@
 package ru.practicum.shareit.item.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.bulk.ImportResult;
 import ru.practicum.shareit.item.dto.comment.CommentDto;
 import ru.practicum.shareit.item.dto.comment.NewCommentDto;
 import ru.practicum.shareit.item.dto.item.ItemDto;
 import ru.practicum.shareit.item.dto.item.NewItemRequest;
 import ru.practicum.shareit.item.dto.item.UpdateItemRequest;
+import ru.practicum.shareit.item.service.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.web.NdjsonResponseWriter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -19,6 +27,8 @@ import java.util.List;
 @Slf4j
 public class ItemController {
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -28,6 +38,17 @@ public class ItemController {
         return itemService.create(userId, request);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на пакетный импорт вещей пользователем с ID={}", userId);
+        NdjsonResponseWriter<ImportResult> writer = new NdjsonResponseWriter<>(objectMapper, request, response);
+        itemImportService.importItems(userId, request.getInputStream(), writer);
+        writer.finish();
+    }
+
     @GetMapping("/{itemId}")
     @ResponseStatus(HttpStatus.OK)
     public ItemDto get(@RequestHeader("X-Sharer-User-Id") long userId,
@@ -43,6 +64,16 @@ public class ItemController {
         return itemService.findItemsByOwnerId(userId);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAllItems(@RequestHeader("X-Sharer-User-Id") long userId,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на потоковую выгрузку всех вещей пользователя с ID={}", userId);
+        NdjsonResponseWriter<ItemDto> writer = new NdjsonResponseWriter<>(objectMapper, request, response);
+        itemService.streamItemsByOwnerId(userId, writer);
+        writer.finish();
+    }
+
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
     public List<ItemDto> getAllByText(@RequestParam(name = "text") String text) {
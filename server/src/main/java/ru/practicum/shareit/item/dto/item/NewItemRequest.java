@@ -1,5 +1,7 @@
 package ru.practicum.shareit.item.dto.item;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
@@ -9,8 +11,14 @@ import lombok.experimental.FieldDefaults;
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class NewItemRequest {
+    @NotBlank(message = "Название не может быть пустым")
     String name;
+
+    @NotBlank(message = "Описание не может быть пустым")
     String description;
+
+    @NotNull(message = "Статус аренды не может быть пустым")
     Boolean available;
+
     Long requestId;
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package ru.practicum.shareit.item.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
@@ -14,10 +20,24 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
 
     List<Item> findAllByNameContainingIgnoreCase(String text);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Item> findByOwnerIdOrderByIdAsc(Long ownerId);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Item> streamByOwnerIdOrderByIdAsc(Long ownerId);
+
     @Query("SELECT i FROM Item i WHERE (i.name ILIKE %:text% OR i.description ILIKE %:text%) AND i.available = true")
     List<Item> findItemsByNameOrDescription(@Param("text") String text);
 
+    @Query(value = "SELECT i.* FROM items i " +
+            "WHERE to_tsvector('simple', i.name || ' ' || coalesce(i.description, '')) " +
+            "@@ plainto_tsquery('simple', :text) AND i.is_available = true", nativeQuery = true)
+    List<Item> findAvailableByFullText(@Param("text") String text);
+
     List<Item> findByRequestIdOrderByRequestIdDesc(Long requestId);
+
+    List<Item> findAllByRequestIdIn(Collection<Long> requestIds);
+
+    List<Item> findByAvailableTrueAndIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
 }
\ No newline at end of file
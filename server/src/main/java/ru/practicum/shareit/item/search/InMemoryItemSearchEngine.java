@@ -0,0 +1,99 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "shareit.item.search.engine", havingValue = "in-memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+    private final int rebuildPageSize;
+    private final Lock swapLock = new ReentrantLock();
+    private final Set<Long> indexedDuringRebuild = new HashSet<>();
+    private volatile ItemInvertedIndex index = new ItemInvertedIndex();
+    private ItemInvertedIndex rebuilding;
+
+    public InMemoryItemSearchEngine(ItemRepository itemRepository,
+                                    @Value("${shareit.item.search.rebuild-page-size:1000}") int rebuildPageSize) {
+        this.itemRepository = itemRepository;
+        this.rebuildPageSize = rebuildPageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ItemInvertedIndex fresh = new ItemInvertedIndex();
+        swapLock.lock();
+        try {
+            rebuilding = fresh;
+        } finally {
+            swapLock.unlock();
+        }
+
+        long lastId = 0;
+        List<Item> page;
+        do {
+            page = itemRepository.findByAvailableTrueAndIdGreaterThanOrderByIdAsc(lastId,
+                    PageRequest.of(0, rebuildPageSize));
+            addToRebuild(fresh, page);
+            if (!page.isEmpty()) {
+                lastId = page.getLast().getId();
+            }
+        } while (page.size() == rebuildPageSize);
+
+        swapLock.lock();
+        try {
+            index = fresh;
+            rebuilding = null;
+            indexedDuringRebuild.clear();
+        } finally {
+            swapLock.unlock();
+        }
+        log.info("Поисковый индекс вещей построен, проиндексировано вещей: {}", fresh.size());
+    }
+
+    private void addToRebuild(ItemInvertedIndex fresh, List<Item> page) {
+        swapLock.lock();
+        try {
+            for (Item item : page) {
+                if (!indexedDuringRebuild.contains(item.getId())) {
+                    fresh.index(item);
+                }
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text) {
+        return index.search(text);
+    }
+
+    @Override
+    public void index(Item item) {
+        swapLock.lock();
+        try {
+            index.index(item);
+            if (rebuilding != null) {
+                rebuilding.index(item);
+                indexedDuringRebuild.add(item.getId());
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.Request;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class ItemInvertedIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, LongPostingList> postings = new TreeMap<>();
+    private final Map<Long, Item> items = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            removeItem(item.getId());
+            if (Boolean.TRUE.equals(item.getAvailable())) {
+                Item snapshot = snapshotOf(item);
+                items.put(snapshot.getId(), snapshot);
+                for (String token : tokenize(snapshot)) {
+                    postings.computeIfAbsent(token, key -> new LongPostingList()).add(snapshot.getId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeItem(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            items.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Item> search(String text) {
+        Set<String> queryTokens = tokenize(text);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            long[] matches = null;
+            for (String token : queryTokens) {
+                long[] tokenMatches = findByPrefix(token);
+                matches = matches == null ? tokenMatches : LongPostingList.intersect(matches, tokenMatches);
+                if (matches.length == 0) {
+                    return List.of();
+                }
+            }
+            List<Item> found = new ArrayList<>(matches.length);
+            for (long id : matches) {
+                found.add(items.get(id));
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] findByPrefix(String prefix) {
+        long[] matches = new long[0];
+        for (LongPostingList postingList : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()) {
+            matches = LongPostingList.union(matches, postingList.toArray());
+        }
+        return matches;
+    }
+
+    private void removeItem(long itemId) {
+        Item previous = items.remove(itemId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : tokenize(previous)) {
+            LongPostingList postingList = postings.get(token);
+            if (postingList != null) {
+                postingList.remove(itemId);
+                if (postingList.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static Set<String> tokenize(Item item) {
+        return tokenize(item.getName() + " " + Objects.requireNonNullElse(item.getDescription(), ""));
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Item snapshotOf(Item item) {
+        return Item.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .request(item.getRequest() != null ? Request.builder().id(item.getRequest().getId()).build() : null)
+                .build();
+    }
+}
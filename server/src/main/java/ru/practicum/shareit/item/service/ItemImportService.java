@@ -0,0 +1,89 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.bulk.ImportChunk;
+import ru.practicum.shareit.bulk.ImportHandler;
+import ru.practicum.shareit.bulk.ImportResult;
+import ru.practicum.shareit.bulk.NdjsonImportProcessor;
+import ru.practicum.shareit.item.dto.item.NewItemRequest;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.request.repository.RequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "shareit.service", histogram = true)
+public class ItemImportService {
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final UserService userService;
+    private final ItemSearchEngine itemSearchEngine;
+    private final NdjsonImportProcessor importProcessor;
+
+    public void importItems(Long ownerId, InputStream body, Consumer<ImportResult> consumer) throws IOException {
+        userService.validateUserExist(ownerId);
+        importProcessor.process(body, NewItemRequest.class, new ImportHandler<NewItemRequest, Item>() {
+            @Override
+            public List<Item> persist(ImportChunk<NewItemRequest> chunk) {
+                return persistItems(ownerId, chunk);
+            }
+
+            @Override
+            public void stored(List<Item> items) {
+                items.forEach(itemSearchEngine::index);
+            }
+        }, consumer);
+    }
+
+    private List<Item> persistItems(Long ownerId, ImportChunk<NewItemRequest> chunk) {
+        User owner = userService.getUserReference(ownerId);
+
+        Set<Long> requestIds = new HashSet<>();
+        chunk.forEachPending((request, index) -> {
+            if (request.getRequestId() != null) {
+                requestIds.add(request.getRequestId());
+            }
+        });
+        Map<Long, Request> requests = requestIds.isEmpty() ? Map.of() : requestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+
+        List<Item> items = new ArrayList<>();
+        chunk.forEachPending((request, index) -> {
+            Item item = ItemMapper.toItem(request);
+            item.setOwner(owner);
+            if (request.getRequestId() != null) {
+                Request itemRequest = requests.get(request.getRequestId());
+                if (itemRequest == null) {
+                    chunk.fail(index, "Запрос не найден.");
+                    return;
+                }
+                item.setRequest(itemRequest);
+            }
+            item = itemRepository.save(item);
+            chunk.created(index, item.getId());
+            items.add(item);
+        });
+        log.debug("Подготовлено к пакетной вставке вещей пользователя с ID={}: {}", ownerId, items.size());
+        return items;
+    }
+}
@@ -7,6 +7,7 @@ import ru.practicum.shareit.item.dto.item.NewItemRequest;
 import ru.practicum.shareit.item.dto.item.UpdateItemRequest;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ItemService {
     ItemDto create(Long userId, NewItemRequest request);
@@ -17,6 +18,8 @@ public interface ItemService {
 
     List<ItemDto> findItemsByOwnerId(Long userId);
 
+    void streamItemsByOwnerId(Long userId, Consumer<ItemDto> consumer);
+
     List<ItemDto> findItemsByNameOrDescription(String text);
 
     CommentDto addComment(Long userId, Long itemId, NewCommentDto commentDto);
@@ -1,10 +1,15 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -23,14 +28,21 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ru.practicum.shareit.item.mapper.ItemMapper.toItem;
 import static ru.practicum.shareit.item.mapper.ItemMapper.toItemDto;
@@ -38,18 +50,24 @@ import static ru.practicum.shareit.item.mapper.ItemMapper.toItemDto;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 @Slf4j
 public class ItemServiceImpl implements ItemService {
+    private static final int STREAM_BATCH_SIZE = 100;
+
     private final ItemRepository itemRepository;
     private final UserService userService;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final RequestRepository requestRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public ItemDto create(Long userId, NewItemRequest requestDto) {
-        User owner = userService.validateUserExist(userId);
+        User owner = userService.getUserReference(userId);
         Item item = toItem(requestDto);
         item.setOwner(owner);
 
@@ -59,7 +77,9 @@ public class ItemServiceImpl implements ItemService {
             item.setRequest(request);
         }
 
-        return toItemDto(itemRepository.save(item));
+        item = itemRepository.save(item);
+        indexAfterCommit(item);
+        return toItemDto(item);
     }
 
     @Override
@@ -69,7 +89,7 @@ public class ItemServiceImpl implements ItemService {
 
         ItemDto itemDto = ItemMapper.toItemDto(item);
 
-        loadDetails(itemDto);
+        loadDetails(List.of(itemDto));
 
         return itemDto;
     }
@@ -84,6 +104,8 @@ public class ItemServiceImpl implements ItemService {
         }
         updateItemFields(item, request);
         item = itemRepository.save(item);
+        entityManagerFactory.getCache().evict(Item.class, itemId);
+        indexAfterCommit(item);
         return toItemDto(item);
     }
 
@@ -94,17 +116,34 @@ public class ItemServiceImpl implements ItemService {
         List<ItemDto> itemDtos = itemRepository.findByOwnerIdOrderByIdAsc(ownerId).stream()
                 .map(ItemMapper::toItemDto).toList();
 
-        itemDtos.forEach(this::loadDetails);
+        loadDetails(itemDtos);
 
         return itemDtos;
     }
 
+    @Override
+    public void streamItemsByOwnerId(Long ownerId, Consumer<ItemDto> consumer) {
+        userService.validateUserExist(ownerId);
+
+        List<ItemDto> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        try (Stream<Item> items = itemRepository.streamByOwnerIdOrderByIdAsc(ownerId)) {
+            for (Item item : (Iterable<Item>) items::iterator) {
+                batch.add(ItemMapper.toItemDto(item));
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    flushBatch(batch, consumer);
+                    entityManager.clear();
+                }
+            }
+        }
+        flushBatch(batch, consumer);
+    }
+
     @Override
     public List<ItemDto> findItemsByNameOrDescription(String text) {
         if (text == null || text.isEmpty() || text.isBlank()) {
             return Collections.emptyList();
         }
-        return itemRepository.findItemsByNameOrDescription(text).stream()
+        return itemSearchEngine.search(text).stream()
                 .map(ItemMapper::toItemDto).toList();
     }
 
@@ -112,7 +151,7 @@ public class ItemServiceImpl implements ItemService {
     @Transactional
     public CommentDto addComment(Long userId, Long itemId, NewCommentDto commentDto) {
         Item item = validateItemExist(itemId);
-        User author = userService.validateUserExist(userId);
+        User author = userService.getUser(userId);
         validateCommentAuthorAndDate(userId, itemId);
 
         Comment comment = CommentMapper.toComment(commentDto);
@@ -123,6 +162,15 @@ public class ItemServiceImpl implements ItemService {
         return CommentMapper.toCommentDto(commentRepository.save(comment));
     }
 
+    private void indexAfterCommit(Item item) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                itemSearchEngine.index(item);
+            }
+        });
+    }
+
     private Item validateItemExist(Long itemId) {
         return itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException(String.format("Предмет аренды с id %d не найден.", itemId)));
@@ -150,26 +198,40 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    @Transactional
-    public void loadDetails(ItemDto itemDto) {
-        List<Comment> comments = commentRepository.findAllByItemId(itemDto.getId());
-        itemDto.setComments(comments.stream()
-                .map(CommentMapper::toCommentDto)
-                .toList());
-
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerId(itemDto.getId(),
-                Sort.by(Sort.Direction.DESC, "start"));
-
-        if (!bookings.isEmpty()) {
-            Booking nextBooking = bookings.get(0);
-            itemDto.setNextBooking(BookingMapper.toBookingDto(nextBooking));
-
-            if (bookings.size() > 1) {
-                itemDto.setLastBooking(BookingMapper.toBookingDto(bookings.get(1)));
-            } else {
-                itemDto.setLastBooking(BookingMapper.toBookingDto(nextBooking));
+    private void loadDetails(List<ItemDto> itemDtos) {
+        if (itemDtos.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = itemDtos.stream()
+                .map(ItemDto::getId)
+                .toList();
+
+        Map<Long, List<CommentDto>> commentsByItemId = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toCommentDto, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingDto> lastBookings = new HashMap<>();
+        Map<Long, BookingDto> nextBookings = new HashMap<>();
+        List<Long> bookingIds = bookingRepository.findLastAndNextApprovedBookingIds(itemIds, now);
+        if (!bookingIds.isEmpty()) {
+            for (Booking booking : bookingRepository.findAllWithItemAndBookerByIdIn(bookingIds)) {
+                Map<Long, BookingDto> target = booking.getStart().isAfter(now) ? nextBookings : lastBookings;
+                target.put(booking.getItem().getId(), BookingMapper.toBookingDto(booking));
             }
         }
+
+        for (ItemDto itemDto : itemDtos) {
+            itemDto.setComments(commentsByItemId.getOrDefault(itemDto.getId(), List.of()));
+            itemDto.setLastBooking(lastBookings.get(itemDto.getId()));
+            itemDto.setNextBooking(nextBookings.get(itemDto.getId()));
+        }
+    }
+
+    private void flushBatch(List<ItemDto> batch, Consumer<ItemDto> consumer) {
+        loadDetails(batch);
+        batch.forEach(consumer);
+        batch.clear();
     }
 
     private void updateItemFields(Item item, UpdateItemRequest request) {
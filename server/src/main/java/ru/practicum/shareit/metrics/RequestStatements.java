@@ -0,0 +1,36 @@
+package ru.practicum.shareit.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RequestStatements {
+    static final int MAX_KEPT_QUERIES = 50;
+
+    private final List<String> queries = new ArrayList<>();
+    private int count;
+    private long elapsedMillis;
+
+    void add(List<String> sql, long elapsedMillis) {
+        count += sql.size();
+        for (String query : sql) {
+            if (queries.size() == MAX_KEPT_QUERIES) {
+                break;
+            }
+            queries.add(query);
+        }
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofMillis(elapsedMillis);
+    }
+
+    public List<String> queries() {
+        return List.copyOf(queries);
+    }
+}
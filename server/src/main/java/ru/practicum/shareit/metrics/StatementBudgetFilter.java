@@ -0,0 +1,73 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class StatementBudgetFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatements statements = StatementRecorder.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            StatementRecorder.end();
+            record(request, statements);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void record(HttpServletRequest request, RequestStatements statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("shareit.http.jdbc.statements")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements.count());
+        Timer.builder("shareit.http.jdbc.time")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements.elapsed());
+
+        if (statements.count() > statementBudget && !isBulkRequest(request)) {
+            List<String> queries = statements.queries();
+            int omitted = statements.count() - queries.size();
+            log.warn("Запрос {} {} выполнил {} SQL-запросов за {} мс при бюджете {}:\n{}{}", request.getMethod(),
+                    request.getRequestURI(), statements.count(), statements.elapsed().toMillis(), statementBudget,
+                    String.join("\n", queries), omitted > 0 ? "\n... и еще " + omitted : "");
+        }
+    }
+
+    private static boolean isBulkRequest(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+public class StatementRecorder implements QueryExecutionListener {
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    public static RequestStatements begin() {
+        RequestStatements statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestStatements statements = CURRENT.get();
+        if (statements == null) {
+            return;
+        }
+        statements.add(queryInfoList.stream().map(QueryInfo::getQuery).toList(), execInfo.getElapsedTime());
+    }
+}
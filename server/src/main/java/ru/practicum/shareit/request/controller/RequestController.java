@@ -4,7 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.NewRequestDto;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.service.RequestService;
@@ -43,6 +46,21 @@ public class RequestController {
         return requestService.findAll(userId, from, size);
     }
 
+    @GetMapping(value = "/all", params = "cursor")
+    public ResponseEntity<List<RequestDto>> getAllRequestsAfterCursor(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") Integer size) {
+        log.debug("Принят запрос от пользователя с ID: {} на получение списка всех запросов, cursor={}, size={}",
+                userId, cursor, size);
+        CursorPage<RequestDto> page = requestService.findAllAfterCursor(userId, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNext() != null) {
+            response.header(PageCursor.NEXT_CURSOR_HEADER, page.getNext());
+        }
+        return response.body(page.getContent());
+    }
+
     @GetMapping("/{requestId}")
     @ResponseStatus(HttpStatus.OK)
     public RequestDto getRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -1,11 +1,22 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.Request;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
     List<Request> findAllByRequestorId(Long userId, Sort sortOrder);
+
+    @Query("SELECT r FROM Request r JOIN FETCH r.requestor ORDER BY r.created DESC, r.id DESC")
+    List<Request> findFirstPage(Pageable pageable);
+
+    @Query("SELECT r FROM Request r JOIN FETCH r.requestor " +
+            "WHERE r.created <= ?1 AND (r.created < ?1 OR r.id < ?2) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    List<Request> findPageAfter(LocalDateTime created, long id, Pageable pageable);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.NewRequestDto;
 import ru.practicum.shareit.request.dto.RequestDto;
 
@@ -12,5 +13,7 @@ public interface RequestService {
 
     List<RequestDto> findAll(Long userId, Integer from, Integer size);
 
+    CursorPage<RequestDto> findAllAfterCursor(Long userId, String cursor, Integer size);
+
     RequestDto findById(Long userId, Long requestId);
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package ru.practicum.shareit.request.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +15,8 @@ import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.item.ItemDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.NewRequestDto;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.mapper.RequestMapper;
@@ -22,11 +26,14 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 @Slf4j
 public class RequestServiceImpl implements RequestService {
 
@@ -37,7 +44,7 @@ public class RequestServiceImpl implements RequestService {
     @Transactional
     @Override
     public RequestDto create(NewRequestDto newRequestDto, Long userId) {
-        User requestor = userService.validateUserExist(userId);
+        User requestor = userService.getUser(userId);
         Request request = RequestMapper.toRequest(newRequestDto);
         request.setRequestor(requestor);
 
@@ -47,14 +54,13 @@ public class RequestServiceImpl implements RequestService {
     @Override
     public List<RequestDto> getAllRequestsById(Long userId) {
         userService.validateUserExist(userId);
-        return requestRepository.findAllByRequestorId(userId, Sort.by(Sort.Direction.DESC, "created"))
+        List<RequestDto> requestDtos = requestRepository.findAllByRequestorId(userId,
+                        Sort.by(Sort.Direction.DESC, "created"))
                 .stream()
-                .map(request -> {
-                    RequestDto requestDto = RequestMapper.toRequestDto(request);
-                    loadDetails(requestDto);
-                    return requestDto;
-                })
+                .map(RequestMapper::toRequestDto)
                 .toList();
+        loadDetails(requestDtos);
+        return requestDtos;
     }
 
     @Override
@@ -63,15 +69,37 @@ public class RequestServiceImpl implements RequestService {
         if (from < 0 || size < 0) {
             throw new ValidationException("Аргументы не могут быть отрицательными.");
         }
-        return requestRepository.findAll(PageRequest.of((from / size), size,
+        List<RequestDto> requestDtos = requestRepository.findAll(PageRequest.of((from / size), size,
                         Sort.by(Sort.Direction.DESC, "created")))
                 .stream()
-                .map(request -> {
-                    RequestDto requestDto = RequestMapper.toRequestDto(request);
-                    loadDetails(requestDto);
-                    return requestDto;
-                })
+                .map(RequestMapper::toRequestDto)
                 .toList();
+        loadDetails(requestDtos);
+        return requestDtos;
+    }
+
+    @Override
+    public CursorPage<RequestDto> findAllAfterCursor(Long userId, String cursor, Integer size) {
+        userService.validateUserExist(userId);
+        if (size <= 0) {
+            throw new ValidationException("Размер страницы должен быть положительным.");
+        }
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable page = PageRequest.of(0, size);
+        List<Request> requests = after == null
+                ? requestRepository.findFirstPage(page)
+                : requestRepository.findPageAfter(after.getPosition(), after.getId(), page);
+
+        String next = null;
+        if (requests.size() == size) {
+            Request last = requests.getLast();
+            next = PageCursor.of(last.getCreated(), last.getId()).encode();
+        }
+        List<RequestDto> requestDtos = requests.stream()
+                .map(RequestMapper::toRequestDto)
+                .toList();
+        loadDetails(requestDtos);
+        return new CursorPage<>(requestDtos, next);
     }
 
     @Override
@@ -91,4 +119,21 @@ public class RequestServiceImpl implements RequestService {
                 .toList();
         requestDto.setItems(itemDtos);
     }
+
+    private void loadDetails(List<RequestDto> requestDtos) {
+        if (requestDtos.isEmpty()) {
+            return;
+        }
+        List<Long> requestIds = requestDtos.stream()
+                .map(RequestDto::getId)
+                .toList();
+
+        Map<Long, List<ItemDto>> itemsByRequestId = itemRepository.findAllByRequestIdIn(requestIds).stream()
+                .map(ItemMapper::toItemDto)
+                .collect(Collectors.groupingBy(ItemDto::getRequestId));
+
+        for (RequestDto requestDto : requestDtos) {
+            requestDto.setItems(itemsByRequestId.getOrDefault(requestDto.getId(), List.of()));
+        }
+    }
 }
\ No newline at end of file
@@ -1,14 +1,22 @@
 package ru.practicum.shareit.user.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.bulk.ImportResult;
 import ru.practicum.shareit.user.dto.NewUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserImportService;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.web.NdjsonResponseWriter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,6 +25,8 @@ import java.util.List;
 @Slf4j
 public class UserController {
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -25,6 +35,15 @@ public class UserController {
         return userService.createUser(request);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на пакетный импорт пользователей");
+        NdjsonResponseWriter<ImportResult> writer = new NdjsonResponseWriter<>(objectMapper, request, response);
+        userImportService.importUsers(request.getInputStream(), writer);
+        writer.finish();
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<UserDto> getUsers() {
@@ -32,6 +51,14 @@ public class UserController {
         return userService.getUsers();
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Принят запрос на потоковую выгрузку списка пользователей");
+        NdjsonResponseWriter<UserDto> writer = new NdjsonResponseWriter<>(objectMapper, request, response);
+        userService.streamUsers(writer);
+        writer.finish();
+    }
+
     @GetMapping("/{userId}")
     @ResponseStatus(HttpStatus.OK)
     public UserDto getUserById(@PathVariable("userId") long userId) {
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user.dto;
 
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,8 +10,11 @@ import lombok.Data;
 @Builder
 @AllArgsConstructor
 public class NewUserRequest {
+    @NotBlank(message = "Имя пользователя не может быть пустым")
     private String name;
     private String description;
+    @NotBlank(message = "Email пользователя не может быть пустым")
+    @Email(message = "Email имеет неверный формат")
     private String email;
     private Boolean available;
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class UserIdCache {
+    private final Set<Long> knownIds = ConcurrentHashMap.newKeySet();
+    private final int maxSize;
+
+    public UserIdCache(@Value("${shareit.user.id-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean contains(long userId) {
+        return knownIds.contains(userId);
+    }
+
+    public void add(long userId) {
+        if (maxSize <= 0) {
+            return;
+        }
+        while (knownIds.size() >= maxSize) {
+            Iterator<Long> iterator = knownIds.iterator();
+            if (!iterator.hasNext()) {
+                break;
+            }
+            knownIds.remove(iterator.next());
+        }
+        knownIds.add(userId);
+    }
+
+    public void evict(long userId) {
+        knownIds.remove(userId);
+    }
+}
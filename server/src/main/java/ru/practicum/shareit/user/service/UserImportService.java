@@ -0,0 +1,57 @@
+package ru.practicum.shareit.user.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.bulk.ImportChunk;
+import ru.practicum.shareit.bulk.ImportResult;
+import ru.practicum.shareit.bulk.NdjsonImportProcessor;
+import ru.practicum.shareit.user.dto.NewUserRequest;
+import ru.practicum.shareit.user.mapper.UserMapper;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "shareit.service", histogram = true)
+public class UserImportService {
+    private final UserRepository userRepository;
+    private final NdjsonImportProcessor importProcessor;
+
+    public void importUsers(InputStream body, Consumer<ImportResult> consumer) throws IOException {
+        importProcessor.process(body, NewUserRequest.class, this::persistUsers, consumer);
+    }
+
+    private List<User> persistUsers(ImportChunk<NewUserRequest> chunk) {
+        Set<String> emails = new HashSet<>();
+        chunk.forEachPending((request, index) -> {
+            if (!emails.add(request.getEmail())) {
+                chunk.fail(index, "Пользователь с таким email уже встречается в импорте");
+            }
+        });
+        Set<String> existingEmails = userRepository.findExistingEmails(emails);
+
+        List<User> users = new ArrayList<>();
+        chunk.forEachPending((request, index) -> {
+            if (existingEmails.contains(request.getEmail())) {
+                chunk.fail(index, "Пользователь с таким email уже существует");
+                return;
+            }
+            User user = userRepository.save(UserMapper.toUser(request));
+            chunk.created(index, user.getId());
+            users.add(user);
+        });
+        log.debug("Подготовлено к пакетной вставке пользователей: {}", users.size());
+        return users;
+    }
+}
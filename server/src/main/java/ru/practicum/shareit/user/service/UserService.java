@@ -6,6 +6,7 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
     UserDto createUser(NewUserRequest request);
@@ -14,9 +15,15 @@ public interface UserService {
 
     List<UserDto> getUsers();
 
+    void streamUsers(Consumer<UserDto> consumer);
+
     UserDto updateUser(long userId, UpdateUserRequest request);
 
     void deleteUser(long userId);
 
-    User validateUserExist(Long userId);
+    void validateUserExist(Long userId);
+
+    User getUser(Long userId);
+
+    User getUserReference(Long userId);
 }
\ No newline at end of file
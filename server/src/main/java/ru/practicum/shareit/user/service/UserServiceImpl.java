@@ -1,9 +1,14 @@
 package ru.practicum.shareit.user.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.exception.DuplicatedDataException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.NewUserRequest;
@@ -14,14 +19,21 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 public class UserServiceImpl implements UserService {
+    private static final int STREAM_CLEAR_INTERVAL = 500;
 
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -46,6 +58,19 @@ public class UserServiceImpl implements UserService {
                 .toList();
     }
 
+    @Override
+    public void streamUsers(Consumer<UserDto> consumer) {
+        int streamed = 0;
+        try (Stream<User> users = userRepository.streamAllByOrderByIdAsc()) {
+            for (User user : (Iterable<User>) users::iterator) {
+                consumer.accept(UserMapper.toUserDto(user));
+                if (++streamed % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     @Transactional
     public UserDto updateUser(long userId, UpdateUserRequest request) {
@@ -54,6 +79,7 @@ public class UserServiceImpl implements UserService {
                 .map(user -> updateUserFields(user, request))
                 .orElseThrow(() -> new NotFoundException("Пользователь с id = " + userId + " не найден"));
         userRepository.save(updatedUser);
+        entityManagerFactory.getCache().evict(User.class, userId);
         return UserMapper.toUserDto(updatedUser);
     }
 
@@ -61,6 +87,12 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public void deleteUser(long userId) {
         userRepository.deleteById(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userIdCache.evict(userId);
+            }
+        });
     }
 
     private void checkEmailUniqueness(String email) {
@@ -79,8 +111,28 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
-    public User validateUserExist(Long userId) {
-        return userRepository.findById(userId)
+    @Override
+    public void validateUserExist(Long userId) {
+        if (userId != null && userIdCache.contains(userId)) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format("Пользователь с id %d не найден.", userId));
+        }
+        userIdCache.add(userId);
+    }
+
+    @Override
+    public User getUser(Long userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(String.format("Пользователь с id %d не найден.", userId)));
+        userIdCache.add(userId);
+        return user;
+    }
+
+    @Override
+    public User getUserReference(Long userId) {
+        validateUserExist(userId);
+        return userRepository.getReferenceById(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+public class NdjsonResponseWriter<T> implements Consumer<T> {
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectWriter writer;
+    private final HttpServletResponse response;
+    private JsonGenerator generator;
+    private int written;
+
+    public NdjsonResponseWriter(ObjectMapper objectMapper, HttpServletRequest request,
+                                HttpServletResponse response) {
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        this.response = response;
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            if (generator == null) {
+                generator = open();
+            }
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (++written % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        if (generator == null) {
+            generator = open();
+        }
+        generator.close();
+    }
+
+    private JsonGenerator open() throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return writer.getFactory().createGenerator(response.getOutputStream());
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Component
+public class StrongEtagFilter extends ShallowEtagHeaderFilter {
+
+    public StrongEtagFilter() {
+        setWriteWeakETag(false);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
@@ -0,0 +1,10 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_requests_requestor_created ON requests (requestor_id, created);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_requests_created_id ON requests (created, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_owner_id ON items (user_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_request ON items (request_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_comments_item ON comments (item_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_bookings_booker_start ON bookings (user_id, start_date, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_bookings_item_status_start ON bookings (item_id, status, start_date);
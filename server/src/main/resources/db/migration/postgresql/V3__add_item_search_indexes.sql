@@ -0,0 +1,8 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_search_vector ON items
+  USING GIN (to_tsvector('simple', name || ' ' || coalesce(description, '')));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_name_trgm ON items USING GIN (name gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_description_trgm ON items USING GIN (description gin_trgm_ops);
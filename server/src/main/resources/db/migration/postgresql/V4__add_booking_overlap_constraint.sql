@@ -0,0 +1,37 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+SET LOCAL lock_timeout = '5s';
+LOCK TABLE bookings IN ACCESS EXCLUSIVE MODE;
+
+-- До этой миграции пересечения не проверялись: оставляем для каждой вещи самые ранние
+-- подтверждённые бронирования, а пересекающиеся с ними отклоняем.
+DO $$
+DECLARE
+  booking RECORD;
+  current_item BIGINT;
+  kept_end TIMESTAMP WITHOUT TIME ZONE;
+  rejected INT := 0;
+BEGIN
+  FOR booking IN
+    SELECT id, item_id, start_date, end_date FROM bookings
+    WHERE status = 'APPROVED'
+    ORDER BY item_id, start_date, id
+  LOOP
+    IF booking.item_id IS DISTINCT FROM current_item THEN
+      current_item := booking.item_id;
+      kept_end := NULL;
+    END IF;
+    IF kept_end IS NOT NULL AND booking.start_date < kept_end AND booking.start_date < booking.end_date THEN
+      UPDATE bookings SET status = 'REJECTED' WHERE id = booking.id;
+      rejected := rejected + 1;
+      RAISE NOTICE 'Бронирование % вещи % пересекается с подтверждённым и отклонено', booking.id, booking.item_id;
+    ELSIF kept_end IS NULL OR booking.end_date > kept_end THEN
+      kept_end := booking.end_date;
+    END IF;
+  END LOOP;
+  RAISE NOTICE 'Отклонено пересекающихся бронирований: %', rejected;
+END $$;
+
+ALTER TABLE bookings ADD CONSTRAINT ex_bookings_item_period
+  EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+  WHERE (status = 'APPROVED');
@@ -0,0 +1,219 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.repository.RequestRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryPlanTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final PageCursor CURSOR = PageCursor.of(NOW, 10L);
+    private static final Pattern INDEX_ACCESS = Pattern.compile("/\\* PUBLIC\\.\\w+: ([^*]+?)\\s*(?:\\*/|\\n)");
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    RequestRepository requestRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    final SelectCapture capture = new SelectCapture();
+
+    @BeforeAll
+    void registerCapture() {
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+        chain().addListener(capture);
+    }
+
+    @AfterAll
+    void removeCapture() {
+        chain().getListeners().remove(capture);
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("бронирования арендатора",
+                        () -> bookingRepository.findAllByBookerId(1L,
+                                OffsetPageRequest.of(3, 10, Sort.by(Sort.Direction.DESC, "start"))),
+                        "USER_ID = ?1"),
+                query("бронирования арендатора по статусу",
+                        () -> bookingRepository.findAllByBookerIdAndStatus(1L, BookingStatus.WAITING,
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start"))),
+                        "USER_ID = ?1"),
+                query("прошедшие бронирования арендатора",
+                        () -> bookingRepository.findPastByBookerId(1L, NOW,
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start"))),
+                        "USER_ID = ?1"),
+                query("первая страница арендатора по курсору",
+                        () -> bookingRepository.findBookerPage(1L, BookingState.ALL, null, 10),
+                        "USER_ID = ?1"),
+                query("страница арендатора после курсора",
+                        () -> bookingRepository.findBookerPage(1L, BookingState.ALL, CURSOR, 10),
+                        "USER_ID = ?1"),
+                query("страница владельца после курсора",
+                        () -> bookingRepository.findOwnerPage(1L, BookingState.WAITING, CURSOR, 10),
+                        "USER_ID = ?1", "ITEM_ID = I1_0.ID"),
+                query("бронирования владельца",
+                        () -> bookingRepository.findOwnerBookings(1L, BookingState.ALL),
+                        "USER_ID = ?1", "ITEM_ID = I1_0.ID"),
+                query("бронирования владельца по статусу",
+                        () -> bookingRepository.findOwnerBookings(1L, BookingState.WAITING),
+                        "USER_ID = ?1", "STATUS = ?2"),
+                query("бронирования вещи",
+                        () -> bookingRepository.findAllByItemId(1L),
+                        "ITEM_ID = ?1"),
+                query("последнее и следующее бронирование",
+                        () -> bookingRepository.findLastAndNextApprovedBookingIds(List.of(1L, 2L), NOW),
+                        "ITEM_ID IN(?3, ?4)"),
+                query("вещи владельца",
+                        () -> itemRepository.findByOwnerIdOrderByIdAsc(1L),
+                        "USER_ID = ?1"),
+                query("вещи по запросу",
+                        () -> itemRepository.findByRequestIdOrderByRequestIdDesc(1L),
+                        "REQUEST_ID = ?1"),
+                query("вещи по запросам страницы",
+                        () -> itemRepository.findAllByRequestIdIn(List.of(1L, 2L)),
+                        "REQUEST_ID IN(?1, ?2)"),
+                query("перестроение поискового индекса",
+                        () -> itemRepository.findByAvailableTrueAndIdGreaterThanOrderByIdAsc(1L,
+                                PageRequest.of(0, 1000)),
+                        "ID > ?1"),
+                query("комментарии к вещам",
+                        () -> commentRepository.findAllByItemIdIn(List.of(1L, 2L)),
+                        "ITEM_ID IN(?1, ?2)"),
+                query("свои запросы",
+                        () -> requestRepository.findAllByRequestorId(1L, Sort.by(Sort.Direction.DESC, "created")),
+                        "REQUESTOR_ID = ?1"),
+                query("страница запросов после курсора",
+                        () -> requestRepository.findPageAfter(NOW, 10L, PageRequest.of(0, 10)),
+                        "CREATED <= ?1"),
+                query("проверка уникальности email",
+                        () -> userRepository.findByEmail("yandex@practicum.ru"),
+                        "EMAIL = ?1")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryUsesIndex(String description, Runnable repositoryCall, List<String> accessConditions) {
+        List<CapturedSelect> selects = capture.during(repositoryCall);
+
+        assertThat(selects).as(description).hasSize(1);
+        CapturedSelect select = selects.getFirst();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + select.sql(), String.class,
+                select.parameters().toArray());
+
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+        assertThat(indexConditions(plan)).as(plan).containsAll(accessConditions);
+    }
+
+    private static Arguments query(String description, Runnable repositoryCall, String... accessConditions) {
+        return Arguments.of(description, repositoryCall, List.of(accessConditions));
+    }
+
+    private static List<String> indexConditions(String plan) {
+        return INDEX_ACCESS.matcher(plan).results()
+                .map(match -> match.group(1).strip())
+                .toList();
+    }
+
+    private ChainListener chain() {
+        return ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+    }
+
+    private record CapturedSelect(String sql, List<Object> parameters) {
+    }
+
+    private static class SelectCapture implements QueryExecutionListener {
+        private List<CapturedSelect> captured;
+
+        List<CapturedSelect> during(Runnable call) {
+            captured = new ArrayList<>();
+            try {
+                call.run();
+                return captured;
+            } finally {
+                captured = null;
+            }
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (captured == null) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (!queryInfo.getQuery().stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                    continue;
+                }
+                List<Object> parameters = queryInfo.getParametersList().isEmpty() ? List.of()
+                        : queryInfo.getParametersList().getFirst().stream()
+                        .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                        .map(QueryPlanTest::parameterValue)
+                        .toList();
+                captured.add(new CapturedSelect(queryInfo.getQuery(), parameters));
+            }
+        }
+    }
+
+    private static Object parameterValue(ParameterSetOperation operation) {
+        return operation.getMethod().getName().equals("setNull") ? null : operation.getArgs()[1];
+    }
+}
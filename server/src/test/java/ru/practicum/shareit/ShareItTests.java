@@ -1,13 +1,26 @@
 package ru.practicum.shareit;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import ru.practicum.shareit.web.ConcurrencyLimitFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class ShareItTests {
 
+	@Autowired
+	ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void platformThreadsRunWithoutConcurrencyLimit() {
+		assertThat(context.getBeanNamesForType(ConcurrencyLimitFilter.class)).isEmpty();
+	}
+
 }
@@ -16,6 +16,8 @@ import ru.practicum.shareit.booking.dto.NewBookingRequest;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.time.LocalDateTime;
@@ -23,6 +25,7 @@ import java.util.List;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -130,7 +133,7 @@ class BookingControllerTest {
     void getAllBookingsForBooker() throws Exception {
         List<BookingDto> bookings = List.of(booking2);
 
-        when(bookingService.getBookingsByBookerId(1L, "ALL")).thenReturn(bookings);
+        when(bookingService.getBookingsByBookerId(1L, "ALL", 0, 10)).thenReturn(bookings);
 
         mockMvc.perform(get("/bookings")
                         .param("state", "ALL")
@@ -167,4 +170,20 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].booker.email").value("yandex@practicum.ru"))
                 .andExpect(jsonPath("$[0].status").value("WAITING"));
     }
+
+    @Test
+    void getAllBookingsForBookerWithCursor() throws Exception {
+        when(bookingService.getBookingsByBookerIdAfterCursor(1L, "ALL", "", 1))
+                .thenReturn(new CursorPage<>(List.of(booking2), "next"));
+
+        mockMvc.perform(get("/bookings")
+                        .param("state", "ALL")
+                        .param("cursor", "")
+                        .param("size", "1")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
 }
\ No newline at end of file
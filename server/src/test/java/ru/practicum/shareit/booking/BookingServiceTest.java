@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
@@ -8,26 +9,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingRequest;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingConflictException;
 import ru.practicum.shareit.exception.ItemNotAvailableException;
+import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ParameterNotValidException;
 import ru.practicum.shareit.item.dto.item.ItemDto;
 import ru.practicum.shareit.item.dto.item.NewItemRequest;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.NewUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -44,6 +59,15 @@ public class BookingServiceTest {
     @Autowired
     BookingService bookingService;
 
+    @SpyBean
+    BookingRepository bookingRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
     NewUserRequest user1;
     NewUserRequest user2;
     NewItemRequest item1;
@@ -69,13 +93,28 @@ public class BookingServiceTest {
         BookingDto newBooking = bookingService.createBooking(user4.getId(), booking);
 
         assertThat(newBooking.getId()).isNotNull();
-        assertThat(newBooking.getStart()).isEqualTo(booking.getStart());
-        assertThat(newBooking.getEnd()).isEqualTo(booking.getEnd());
+        assertThat(newBooking.getStart()).isEqualTo(booking.getStart().truncatedTo(ChronoUnit.MICROS));
+        assertThat(newBooking.getEnd()).isEqualTo(booking.getEnd().truncatedTo(ChronoUnit.MICROS));
         assertThat(newBooking.getItem().getId()).isEqualTo(booking.getItemId());
         assertThat(newBooking.getBooker().getId()).isEqualTo(user4.getId());
+        assertThat(newBooking.getBooker().getName()).isEqualTo(user4.getName());
         assertThat(newBooking.getStatus()).isEqualTo(BookingStatus.WAITING);
     }
 
+    @Test
+    void throwExceptionWhenBookerIsNotFound() {
+        UserDto user3 = userService.createUser(user1);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        NewBookingRequest booking = NewBookingRequest.builder()
+                .itemId(item.getId())
+                .start(LocalDateTime.now().plusHours(1))
+                .end(LocalDateTime.now().plusHours(2))
+                .build();
+
+        assertThatThrownBy(() -> bookingService.createBooking(user3.getId() + 100, booking))
+                .isInstanceOf(NotFoundException.class);
+    }
+
     @Test
     void throwExceptionWhenIdIsNull() {
         UserDto user3 = userService.createUser(user1);
@@ -188,7 +227,7 @@ public class BookingServiceTest {
                 .build();
 
         BookingDto newBooking = bookingService.createBooking(user4.getId(), booking);
-        List<BookingDto> bookings = bookingService.getBookingsByBookerId(user4.getId(), "ALL").stream().toList();
+        List<BookingDto> bookings = bookingService.getBookingsByBookerId(user4.getId(), "ALL", 0, 10).stream().toList();
 
         assertThat(bookings.getFirst().getId()).isEqualTo(newBooking.getId());
         assertThat(bookings.getFirst().getStart()).isEqualTo(newBooking.getStart());
@@ -219,4 +258,213 @@ public class BookingServiceTest {
         assertThat(bookings.getFirst().getBooker()).isEqualTo(user4);
         assertThat(bookings.getFirst().getStatus()).isEqualTo(BookingStatus.WAITING);
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamBookingsByBookerAndOwner() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        BookingDto first = bookingService.createBooking(user4.getId(), NewBookingRequest.builder()
+                .itemId(item.getId())
+                .start(LocalDateTime.now().plusHours(1))
+                .end(LocalDateTime.now().plusHours(2))
+                .build());
+        BookingDto second = bookingService.createBooking(user4.getId(), NewBookingRequest.builder()
+                .itemId(item.getId())
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build());
+
+        List<BookingDto> byBooker = new ArrayList<>();
+        bookingService.streamBookingsByBookerId(user4.getId(), "ALL", byBooker::add);
+        List<BookingDto> byOwner = new ArrayList<>();
+        bookingService.streamBookingsByOwnerId(user3.getId(), "FUTURE", byOwner::add);
+
+        assertThat(byBooker).extracting(BookingDto::getId).containsExactly(second.getId(), first.getId());
+        assertThat(byOwner).extracting(BookingDto::getId).containsExactly(second.getId(), first.getId());
+        assertThat(byBooker.getFirst().getItem().getId()).isEqualTo(item.getId());
+        assertThat(byBooker.getFirst().getBooker()).isEqualTo(user4);
+    }
+
+    @Test
+    void ownerListAndStreamFilterByTimeTheSameWay() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        LocalDateTime now = LocalDateTime.now();
+        BookingDto pastBooking = createBooking(user4, item, now.minusDays(3), now.minusDays(2));
+        BookingDto currentBooking = createBooking(user4, item, now.minusHours(1), now.plusHours(1));
+        BookingDto futureBooking = createBooking(user4, item, now.plusDays(2), now.plusDays(3));
+
+        for (String state : List.of("ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED")) {
+            List<BookingDto> streamed = new ArrayList<>();
+            bookingService.streamBookingsByOwnerId(user3.getId(), state, streamed::add);
+
+            assertThat(bookingService.getBookingsByOwnerId(user3.getId(), state)).as(state).isEqualTo(streamed);
+        }
+        assertThat(bookingService.getBookingsByOwnerId(user3.getId(), "ALL"))
+                .extracting(BookingDto::getId)
+                .containsExactly(futureBooking.getId(), currentBooking.getId(), pastBooking.getId());
+        assertThat(bookingService.getBookingsByOwnerId(user3.getId(), "CURRENT"))
+                .extracting(BookingDto::getId)
+                .containsExactly(currentBooking.getId());
+        assertThat(bookingService.getBookingsByOwnerId(user3.getId(), "REJECTED")).isEmpty();
+        assertThat(bookingService.getBookingsByOwnerId(user4.getId(), "ALL")).isEmpty();
+    }
+
+    @Test
+    void listsAndStreamsRejectUnknownUser() {
+        long unknownUserId = 999_999L;
+
+        assertThatThrownBy(() -> bookingService.getBookingsByBookerId(unknownUserId, "ALL", 0, 10))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> bookingService.getBookingsByOwnerId(unknownUserId, "ALL"))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> bookingService.streamBookingsByBookerId(unknownUserId, "ALL", booking -> {
+        })).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> bookingService.streamBookingsByOwnerId(unknownUserId, "ALL", booking -> {
+        })).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> bookingService.getBookingsByOwnerIdAfterCursor(unknownUserId, "ALL", null, 10))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void getBookingsByUserWithStateAndPagination() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        LocalDateTime now = LocalDateTime.now();
+        BookingDto pastBooking = createBooking(user4, item, now.minusDays(3), now.minusDays(2));
+        BookingDto currentBooking = createBooking(user4, item, now.minusHours(1), now.plusHours(1));
+        BookingDto futureBooking = createBooking(user4, item, now.plusDays(2), now.plusDays(3));
+
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "ALL", 0, 10))
+                .extracting(BookingDto::getId)
+                .containsExactly(futureBooking.getId(), currentBooking.getId(), pastBooking.getId());
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "ALL", 1, 1))
+                .extracting(BookingDto::getId)
+                .containsExactly(currentBooking.getId());
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "ALL", 1, 2))
+                .extracting(BookingDto::getId)
+                .containsExactly(currentBooking.getId(), pastBooking.getId());
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "PAST", 0, 10))
+                .extracting(BookingDto::getId)
+                .containsExactly(pastBooking.getId());
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "CURRENT", 0, 10))
+                .extracting(BookingDto::getId)
+                .containsExactly(currentBooking.getId());
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "FUTURE", 0, 10))
+                .extracting(BookingDto::getId)
+                .containsExactly(futureBooking.getId());
+        assertThat(bookingService.getBookingsByBookerId(user4.getId(), "WAITING", 0, 10)).hasSize(3);
+        assertThatThrownBy(() -> bookingService.getBookingsByBookerId(user4.getId(), "ALL", -1, 10))
+                .isInstanceOf(ParameterNotValidException.class);
+    }
+
+    @Test
+    void getBookingsByUserAndOwnerWithCursor() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        LocalDateTime start = LocalDateTime.of(2099, 1, 10, 12, 0, 0, 123_456_789);
+        BookingDto first = createBooking(user4, item, start, start.plusHours(1));
+        BookingDto second = createBooking(user4, item, start, start.plusHours(2));
+        BookingDto third = createBooking(user4, item, start.minusHours(5), start.plusHours(3));
+
+        CursorPage<BookingDto> firstPage = bookingService.getBookingsByBookerIdAfterCursor(user4.getId(), "ALL", "", 2);
+        CursorPage<BookingDto> secondPage = bookingService.getBookingsByBookerIdAfterCursor(user4.getId(), "ALL",
+                firstPage.getNext(), 2);
+        CursorPage<BookingDto> ownerPage = bookingService.getBookingsByOwnerIdAfterCursor(user3.getId(), "FUTURE",
+                null, 10);
+
+        assertThat(firstPage.getContent()).extracting(BookingDto::getId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(PageCursor.decode(firstPage.getNext()).getPosition()).isEqualTo(start.truncatedTo(ChronoUnit.MICROS));
+        assertThat(secondPage.getContent()).extracting(BookingDto::getId).containsExactly(third.getId());
+        assertThat(secondPage.getNext()).isNull();
+        assertThat(ownerPage.getContent()).hasSize(3);
+        assertThatThrownBy(() -> bookingService.getBookingsByBookerIdAfterCursor(user4.getId(), "ALL", "broken", 2))
+                .isInstanceOf(ParameterNotValidException.class);
+    }
+
+    @Test
+    void throwConflictWhenApprovedBookingsOverlap() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        BookingDto booking = createBooking(user4, item, LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2));
+        doThrow(new DataIntegrityViolationException("overlap", new SQLException("overlap", "23P01")))
+                .when(bookingRepository).updateStatus(any(), any(), any());
+
+        assertThatThrownBy(() -> bookingService.updateBookingStatus(user3.getId(), booking.getId(), true))
+                .isInstanceOf(BookingConflictException.class);
+    }
+
+    private BookingDto createBooking(UserDto booker, ItemDto item, LocalDateTime start, LocalDateTime end) {
+        NewBookingRequest booking = NewBookingRequest.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(end)
+                .build();
+        return bookingService.createBooking(booker.getId(), booking);
+    }
+
+    @Test
+    void repeatApprovalIsIdempotentAndOppositeDecisionConflicts() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        BookingDto booking = createBooking(user4, item, LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2));
+
+        BookingDto approved = bookingService.updateBookingStatus(user3.getId(), booking.getId(), true);
+        BookingDto approvedAgain = bookingService.updateBookingStatus(user3.getId(), booking.getId(), true);
+
+        assertThat(approved.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(approvedAgain.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> bookingService.updateBookingStatus(user3.getId(), booking.getId(), false))
+                .isInstanceOf(BookingConflictException.class);
+    }
+
+    @Test
+    void concurrentApprovalReturnsStoredState() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        BookingDto booking = createBooking(user4, item, LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2));
+        decideConcurrentlyBeforeUpdate(booking.getId(), BookingStatus.APPROVED);
+
+        BookingDto approved = bookingService.updateBookingStatus(user3.getId(), booking.getId(), true);
+
+        assertThat(approved.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(approved.getBooker().getId()).isEqualTo(user4.getId());
+        assertThat(approved.getItem().getId()).isEqualTo(item.getId());
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void throwConflictWhenConcurrentDecisionDiffers() {
+        UserDto user3 = userService.createUser(user1);
+        UserDto user4 = userService.createUser(user2);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        BookingDto booking = createBooking(user4, item, LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2));
+        decideConcurrentlyBeforeUpdate(booking.getId(), BookingStatus.REJECTED);
+
+        assertThatThrownBy(() -> bookingService.updateBookingStatus(user3.getId(), booking.getId(), true))
+                .isInstanceOf(BookingConflictException.class);
+    }
+
+    private void decideConcurrentlyBeforeUpdate(Long bookingId, BookingStatus status) {
+        doAnswer(invocation -> {
+            entityManager.flush();
+            entityManager.clear();
+            jdbcTemplate.update("UPDATE bookings SET status = ?, version = version + 1 WHERE id = ?",
+                    status.name(), bookingId);
+            return 0;
+        }).when(bookingRepository).updateStatus(any(), any(), any());
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.export;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.ParameterNotValidException;
+import ru.practicum.shareit.export.model.ExportFormat;
+import ru.practicum.shareit.export.model.ExportTable;
+import ru.practicum.shareit.export.service.ExportService;
+import ru.practicum.shareit.export.writer.ColumnarExportReader;
+import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.item.dto.item.NewItemRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.NewUserRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExportServiceTest {
+    @Autowired
+    ExportService exportService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    MockMvc mvc;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    UserDto owner;
+    ItemDto item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.createUser(NewUserRequest.builder().name("Yandex").email("export@practicum.ru").build());
+        item = itemService.create(owner.getId(), NewItemRequest.builder()
+                .name("Дрель")
+                .description("Ударная, \"Bosch\"")
+                .available(true)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void exportItemsAsCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportTable.ITEMS, ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,name,description,owner_id,available,request_id\n"
+                        + item.getId() + ",Дрель,\"Ударная, \"\"Bosch\"\"\"," + owner.getId() + ",true,\n");
+    }
+
+    @Test
+    void exportItemsAsColumnar() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportTable.ITEMS, ExportFormat.COLUMNAR, out);
+
+        ColumnarExportReader.Decoded decoded = ColumnarExportReader.decode(out.toByteArray());
+        assertThat(decoded.columns()).isEqualTo(ExportTable.ITEMS.getColumns());
+        assertThat(decoded.rows()).containsExactly(
+                new Object[]{item.getId(), "Дрель", "Ударная, \"Bosch\"", owner.getId(), true, null});
+    }
+
+    @Test
+    void exportEndpointStreamsGzippedCsv() throws Exception {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        exportService.export(ExportTable.ITEMS, ExportFormat.CSV, expected);
+
+        byte[] body = mvc.perform(get("/export/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"items.csv.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(in.readAllBytes()).isEqualTo(expected.toByteArray());
+        }
+    }
+
+    @Test
+    void unknownTableIsRejected() {
+        assertThatThrownBy(() -> ExportTable.from("payments"))
+                .isInstanceOf(ParameterNotValidException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.export.writer;
+
+import ru.practicum.shareit.export.model.ColumnType;
+import ru.practicum.shareit.export.model.ExportColumn;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ColumnarExportReader {
+    private final DataInputStream in;
+
+    private ColumnarExportReader(byte[] bytes) {
+        this.in = new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    public static Decoded decode(byte[] bytes) throws IOException {
+        return new ColumnarExportReader(bytes).read();
+    }
+
+    private Decoded read() throws IOException {
+        if (!Arrays.equals(in.readNBytes(4), ColumnarExportWriter.MAGIC)) {
+            throw new IOException("Неверная сигнатура");
+        }
+        int version = in.readUnsignedByte();
+        int columnCount = (int) readVarLong();
+        List<ExportColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = in.readUTF();
+            columns.add(new ExportColumn(name, type(in.readUnsignedByte())));
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        int groups = 0;
+        int groupRows;
+        while ((groupRows = (int) readVarLong()) > 0) {
+            Object[][] group = new Object[groupRows][columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                boolean[] present = readPresence(groupRows);
+                switch (columns.get(column).type()) {
+                    case LONG -> readDeltas(group, column, present, false);
+                    case TIMESTAMP -> readDeltas(group, column, present, true);
+                    case BOOLEAN -> readBooleans(group, column, present);
+                    case STRING -> readStrings(group, column, present);
+                }
+            }
+            rows.addAll(Arrays.asList(group));
+            groups++;
+        }
+        if (in.available() > 0) {
+            throw new IOException("Лишние байты после завершающей группы: " + in.available());
+        }
+        return new Decoded(version, columns, rows, groups);
+    }
+
+    private boolean[] readPresence(int rows) throws IOException {
+        boolean[] present = new boolean[rows];
+        int bits = 0;
+        for (int i = 0; i < rows; i++) {
+            if (i % 8 == 0) {
+                bits = in.readUnsignedByte();
+            }
+            present[i] = (bits & (1 << (i % 8))) != 0;
+        }
+        return present;
+    }
+
+    private void readDeltas(Object[][] group, int column, boolean[] present, boolean timestamps) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                long zigzag = readVarLong();
+                long value = previous + ((zigzag >>> 1) ^ -(zigzag & 1));
+                group[i][column] = timestamps
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(value), ZoneOffset.UTC)
+                        : value;
+                previous = value;
+            }
+        }
+    }
+
+    private void readBooleans(Object[][] group, int column, boolean[] present) throws IOException {
+        int bits = 0;
+        int count = 0;
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                if (count == 0) {
+                    bits = in.readUnsignedByte();
+                }
+                group[i][column] = (bits & (1 << count)) != 0;
+                count = (count + 1) % 8;
+            }
+        }
+    }
+
+    private void readStrings(Object[][] group, int column, boolean[] present) throws IOException {
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                group[i][column] = new String(in.readNBytes((int) readVarLong()), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static ColumnType type(int code) throws IOException {
+        for (ColumnType type : ColumnType.values()) {
+            if (type.getCode() == code) {
+                return type;
+            }
+        }
+        throw new IOException("Неизвестный тип колонки: " + code);
+    }
+
+    public record Decoded(int version, List<ExportColumn> columns, List<Object[]> rows, int groups) {
+    }
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.export.writer;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.export.model.ColumnType;
+import ru.practicum.shareit.export.model.ExportColumn;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColumnarExportWriterTest {
+    private static final List<ExportColumn> COLUMNS = List.of(
+            new ExportColumn("id", ColumnType.LONG),
+            new ExportColumn("name", ColumnType.STRING),
+            new ExportColumn("available", ColumnType.BOOLEAN),
+            new ExportColumn("request_id", ColumnType.LONG),
+            new ExportColumn("created", ColumnType.TIMESTAMP));
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+
+    @Test
+    void rowsSurviveRoundTrip() throws Exception {
+        List<Object[]> rows = List.of(
+                new Object[]{10L, "Дрель", true, 3L, CREATED},
+                new Object[]{4L, "Перфоратор", false, null, CREATED.minusDays(2)},
+                new Object[]{7L, "", true, 1L, CREATED.plusHours(1)},
+                new Object[]{-5L, null, null, null, null},
+                new Object[]{Long.MAX_VALUE, "Лестница", false, 2L, CREATED},
+                new Object[]{0L, "Палатка", true, null, CREATED.minusYears(30)},
+                new Object[]{1L, "Велосипед", null, 1L, CREATED},
+                new Object[]{2L, "Самокат", true, 1L, CREATED},
+                new Object[]{3L, "Проектор", false, null, CREATED.plusSeconds(1)},
+                new Object[]{Long.MIN_VALUE, "Гитара", true, 4L, CREATED}
+        );
+
+        ColumnarExportReader.Decoded decoded = ColumnarExportReader.decode(write(rows));
+
+        assertThat(decoded.version()).isEqualTo(ColumnarExportWriter.VERSION);
+        assertThat(decoded.columns()).isEqualTo(COLUMNS);
+        assertThat(decoded.groups()).isEqualTo(1);
+        assertThat(decoded.rows()).containsExactlyElementsOf(rows);
+    }
+
+    @Test
+    void rowsSpanSeveralGroups() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = ColumnarExportWriter.ROW_GROUP_SIZE + 10; id > 0; id--) {
+            rows.add(new Object[]{id, "Вещь " + id, id % 3 == 0, id % 5 == 0 ? null : id / 5,
+                    CREATED.minusMinutes(id)});
+        }
+
+        ColumnarExportReader.Decoded decoded = ColumnarExportReader.decode(write(rows));
+
+        assertThat(decoded.groups()).isEqualTo(2);
+        assertThat(decoded.rows()).containsExactlyElementsOf(rows);
+    }
+
+    @Test
+    void emptyExportHasOnlyHeaderAndTerminatingGroup() throws Exception {
+        ColumnarExportReader.Decoded decoded = ColumnarExportReader.decode(write(List.of()));
+
+        assertThat(decoded.columns()).isEqualTo(COLUMNS);
+        assertThat(decoded.groups()).isZero();
+        assertThat(decoded.rows()).isEmpty();
+    }
+
+    private static byte[] write(List<Object[]> rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarExportWriter writer = new ColumnarExportWriter(out);
+        writer.start(COLUMNS);
+        rows.forEach(writer::row);
+        writer.finish();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.item;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.item.dto.item.NewItemRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InMemoryItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.NewUserRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.item.search.engine=in-memory")
+@ActiveProfiles("test")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class InMemoryItemSearchEngineTest {
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    InMemoryItemSearchEngine searchEngine;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    UserDto owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.createUser(NewUserRequest.builder()
+                .name("Owner").email("search-owner@practicum.ru").build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        itemRepository.deleteAll(itemRepository.findAllByOwnerId(owner.getId()));
+        userService.deleteUser(owner.getId());
+        searchEngine.rebuild();
+    }
+
+    @Test
+    void rolledBackItemIsNotIndexed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            itemService.create(owner.getId(), item("Перфоратор"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(searchEngine.search("перфоратор")).isEmpty();
+    }
+
+    @Test
+    void committedItemIsIndexed() {
+        ItemDto item = itemService.create(owner.getId(), item("Перфоратор"));
+
+        assertThat(searchEngine.search("перфоратор")).extracting(Item::getId).containsExactly(item.getId());
+    }
+
+    @Test
+    void rebuildKeepsServingAndPicksUpStoredItems() {
+        ItemDto item = itemService.create(owner.getId(), item("Перфоратор"));
+
+        searchEngine.rebuild();
+
+        assertThat(searchEngine.search("перфоратор")).extracting(Item::getId).containsExactly(item.getId());
+    }
+
+    private static NewItemRequest item(String name) {
+        return NewItemRequest.builder().name(name).description(name + " для ремонта").available(true).build();
+    }
+}
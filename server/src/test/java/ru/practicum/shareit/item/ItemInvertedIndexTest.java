@@ -0,0 +1,47 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemInvertedIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ItemInvertedIndexTest {
+    final ItemInvertedIndex index = new ItemInvertedIndex();
+
+    @Test
+    void searchByTokenPrefixIgnoringCase() {
+        index.index(item(1L, "Дрель", "Аккумуляторная дрель", true));
+        index.index(item(2L, "Отвёртка", "Аккумуляторная отвёртка", true));
+
+        assertThat(index.search("аккУМУлятор")).extracting(Item::getId).containsExactly(1L, 2L);
+        assertThat(index.search("дрель аккумуляторная")).extracting(Item::getId).containsExactly(1L);
+        assertThat(index.search("пила")).isEmpty();
+    }
+
+    @Test
+    void keepOnlyAvailableItems() {
+        index.index(item(1L, "Дрель", "Аккумуляторная дрель", true));
+        index.index(item(2L, "Дрель", "Ударная дрель", false));
+
+        assertThat(index.search("дрель")).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    void reindexUpdatedItem() {
+        index.index(item(1L, "Дрель", "Аккумуляторная дрель", true));
+        index.index(item(1L, "Перфоратор", "Сетевой перфоратор", true));
+
+        assertThat(index.search("дрель")).isEmpty();
+        assertThat(index.search("перфоратор")).extracting(Item::getName).containsExactly("Перфоратор");
+
+        index.index(item(1L, "Перфоратор", "Сетевой перфоратор", false));
+
+        assertThat(index.search("перфоратор")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    private static Item item(long id, String name, String description, boolean available) {
+        return Item.builder().id(id).name(name).description(description).available(available).build();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.item.dto.item.ItemDto;
+import ru.practicum.shareit.item.dto.item.NewItemRequest;
+import ru.practicum.shareit.item.dto.item.UpdateItemRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.NewUserRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.jpa.second-level-cache=true")
+@ActiveProfiles("test")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemSecondLevelCacheTest {
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    UserDto owner;
+    ItemDto item;
+
+    @AfterEach
+    void cleanUp() {
+        if (item != null) {
+            itemRepository.deleteById(item.getId());
+        }
+        if (owner != null) {
+            userService.deleteUser(owner.getId());
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void repeatedItemReadsHitCacheAndUpdateIsVisible() {
+        owner = userService.createUser(NewUserRequest.builder()
+                .name("Owner").email("cache-owner@practicum.ru").build());
+        item = itemService.create(owner.getId(), NewItemRequest.builder()
+                .name("Дрель").description("Аккумуляторная дрель").available(true).build());
+        entityManagerFactory.getCache().evictAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        itemService.findById(owner.getId(), item.getId());
+        itemService.findById(owner.getId(), item.getId());
+
+        assertThat(statistics.getDomainDataRegionStatistics("items").getHitCount()).isPositive();
+        assertThat(entityManagerFactory.getCache().contains(Item.class, item.getId())).isTrue();
+
+        itemService.update(owner.getId(), item.getId(), UpdateItemRequest.builder().name("Шуруповерт").build());
+
+        assertThat(itemService.findById(owner.getId(), item.getId()).getName()).isEqualTo("Шуруповерт");
+    }
+}
@@ -1,8 +1,13 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -52,6 +57,12 @@ public class ItemServiceTest {
     @Autowired
     RequestService requestService;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
     NewUserRequest user1;
     NewUserRequest user2;
     NewItemRequest item1;
@@ -187,6 +198,21 @@ public class ItemServiceTest {
         assertThat(items.get(1).getAvailable()).isEqualTo(item.getAvailable());
     }
 
+    @Test
+    void searchAvailableItemsByText() {
+        UserDto user3 = userService.createUser(user1);
+        ItemDto item = itemService.create(user3.getId(), item1);
+        itemService.create(user3.getId(), NewItemRequest.builder()
+                .name("Yandex3")
+                .description("YandexPracticum3")
+                .available(false)
+                .build());
+
+        List<ItemDto> items = itemService.findItemsByNameOrDescription("yandex");
+
+        assertThat(items).extracting(ItemDto::getId).containsExactly(item.getId());
+    }
+
     @Test
     void addCommentToItem() {
         UserDto user4 = userService.createUser(user2);
@@ -206,4 +232,75 @@ public class ItemServiceTest {
         assertThat(newComment.getText()).isEqualTo(comment.getText());
         assertThat(newComment.getAuthorName()).isEqualTo(user4.getName());
     }
+
+    @Test
+    void getItemWithLastAndNextApprovedBookings() {
+        UserDto owner = userService.createUser(user1);
+        UserDto booker = userService.createUser(user2);
+        ItemDto item = itemService.create(owner.getId(), item1);
+        LocalDateTime now = LocalDateTime.now();
+
+        BookingDto oldBooking = createApprovedBooking(owner, booker, item, now.minusDays(5), now.minusDays(4));
+        BookingDto lastBooking = createApprovedBooking(owner, booker, item, now.minusDays(2), now.minusDays(1));
+        BookingDto nextBooking = createApprovedBooking(owner, booker, item, now.plusDays(1), now.plusDays(2));
+        createApprovedBooking(owner, booker, item, now.plusDays(3), now.plusDays(4));
+        bookingService.createBooking(booker.getId(), NewBookingRequest.builder()
+                .itemId(item.getId())
+                .start(now.plusHours(1))
+                .end(now.plusHours(2))
+                .build());
+
+        ItemDto getItem = itemService.findById(owner.getId(), item.getId());
+
+        assertThat(getItem.getLastBooking().getId()).isEqualTo(lastBooking.getId()).isNotEqualTo(oldBooking.getId());
+        assertThat(getItem.getNextBooking().getId()).isEqualTo(nextBooking.getId());
+    }
+
+    @Test
+    void getItemsByOwnerWithFixedStatementCount() {
+        long oneItemStatements = countOwnerItemsStatements("owner1@practicum.ru", "booker1@practicum.ru", 1);
+        long manyItemsStatements = countOwnerItemsStatements("owner2@practicum.ru", "booker2@practicum.ru", 5);
+
+        assertThat(manyItemsStatements).isEqualTo(oneItemStatements);
+    }
+
+    private long countOwnerItemsStatements(String ownerEmail, String bookerEmail, int itemsCount) {
+        UserDto owner = userService.createUser(NewUserRequest.builder().name("Owner").email(ownerEmail).build());
+        UserDto booker = userService.createUser(NewUserRequest.builder().name("Booker").email(bookerEmail).build());
+        for (int i = 0; i < itemsCount; i++) {
+            ItemDto item = itemService.create(owner.getId(), item1);
+            NewBookingRequest booking = NewBookingRequest.builder()
+                    .itemId(item.getId())
+                    .start(LocalDateTime.now().minusDays(2))
+                    .end(LocalDateTime.now().minusDays(1))
+                    .build();
+            BookingDto pastBooking = bookingService.createBooking(booker.getId(), booking);
+            bookingService.updateBookingStatus(owner.getId(), pastBooking.getId(), true);
+            itemService.addComment(booker.getId(), item.getId(), NewCommentDto.builder().text("Text").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ItemDto> items = itemService.findItemsByOwnerId(owner.getId());
+
+        assertThat(items).hasSize(itemsCount).allSatisfy(item -> {
+            assertThat(item.getComments()).hasSize(1);
+            assertThat(item.getLastBooking()).isNotNull();
+            assertThat(item.getNextBooking()).isNull();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private BookingDto createApprovedBooking(UserDto owner, UserDto booker, ItemDto item,
+                                             LocalDateTime start, LocalDateTime end) {
+        NewBookingRequest booking = NewBookingRequest.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(end)
+                .build();
+        BookingDto newBooking = bookingService.createBooking(booker.getId(), booking);
+        return bookingService.updateBookingStatus(owner.getId(), newBooking.getId(), true);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.metrics;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ServerTracingTest {
+    static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    InMemorySpanExporter spanExporter;
+
+    @Autowired
+    SdkTracerProvider tracerProvider;
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Test
+    void incomingTraceparentIsContinuedIntoJdbcSpans() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users"))
+                        .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01")
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getTraceId().equals(TRACE_ID))
+                .toList();
+        Map<String, SpanData> spansById = spans.stream()
+                .collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+
+        SpanData httpSpan = spans.stream()
+                .filter(span -> span.getName().equals("http get /users"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(httpSpan.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+        assertThat(httpSpan.getParentSpanContext().isRemote()).isTrue();
+
+        List<SpanData> querySpans = spans.stream()
+                .filter(span -> span.getName().equals("query"))
+                .toList();
+        assertThat(querySpans).isNotEmpty();
+        assertThat(querySpans).allSatisfy(span ->
+                assertThat(ancestors(span, spansById))
+                        .contains(httpSpan.getSpanId())
+                        .endsWith(PARENT_SPAN_ID));
+    }
+
+    private static List<String> ancestors(SpanData span, Map<String, SpanData> spansById) {
+        List<String> ancestors = new ArrayList<>();
+        SpanData current = span;
+        while (spansById.containsKey(current.getParentSpanId())) {
+            ancestors.add(current.getParentSpanId());
+            current = spansById.get(current.getParentSpanId());
+        }
+        ancestors.add(current.getParentSpanId());
+        return ancestors;
+    }
+}
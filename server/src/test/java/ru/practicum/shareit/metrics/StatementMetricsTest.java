@@ -0,0 +1,88 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.user.dto.NewUserRequest;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.Collections;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit.metrics.statement-budget=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@ExtendWith(OutputCaptureExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StatementMetricsTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    UserService userService;
+
+    @Test
+    void requestOverStatementBudgetIsMeasuredAndLogged(CapturedOutput output) throws Exception {
+        userService.createUser(NewUserRequest.builder().name("Yandex").email("metrics@practicum.ru").build());
+
+        mvc.perform(get("/users"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("shareit.http.jdbc.statements")
+                .tag("method", "GET")
+                .tag("uri", "/users")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("shareit.service").tag("method", "getUsers").timer()).isNotNull();
+        assertThat(output).contains("Запрос GET /users выполнил");
+    }
+
+    @Test
+    void bulkImportIsMeasuredButNotLogged(CapturedOutput output) throws Exception {
+        mvc.perform(post("/users/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"Import\",\"email\":\"metrics-import@practicum.ru\"}\n"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("shareit.http.jdbc.statements")
+                .tag("method", "POST")
+                .tag("uri", "/users/import")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+        assertThat(output).doesNotContain("Запрос POST /users/import выполнил");
+    }
+
+    @Test
+    void recordedQueriesAreCapped() {
+        RequestStatements statements = new RequestStatements();
+
+        statements.add(Collections.nCopies(RequestStatements.MAX_KEPT_QUERIES + 10, "SELECT 1"), 5);
+
+        assertThat(statements.count()).isEqualTo(RequestStatements.MAX_KEPT_QUERIES + 10);
+        assertThat(statements.queries()).hasSize(RequestStatements.MAX_KEPT_QUERIES);
+    }
+}
@@ -11,7 +11,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.context.ActiveProfiles;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.item.ItemDto;
 import ru.practicum.shareit.item.dto.item.NewItemRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.metrics.RequestStatements;
+import ru.practicum.shareit.metrics.StatementRecorder;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.NewRequestDto;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.service.RequestService;
@@ -36,6 +41,9 @@ public class RequestServiceTest {
     @Autowired
     RequestService requestService;
 
+    @Autowired
+    ItemService itemService;
+
     NewUserRequest user1;
     NewItemRequest item1;
     NewRequestDto itemRequest1;
@@ -96,4 +104,65 @@ public class RequestServiceTest {
         assertThat(itemRequests.getFirst().getDescription()).isEqualTo(itemRequest.getDescription());
         assertThat(itemRequests.getFirst().getRequestorName()).isEqualTo(itemRequest.getRequestorName());
     }
+
+    @Test
+    void getAllRequestsWithCursor() {
+        UserDto user = userService.createUser(user1);
+        RequestDto first = requestService.create(itemRequest1, user.getId());
+        RequestDto second = requestService.create(itemRequest1, user.getId());
+
+        CursorPage<RequestDto> firstPage = requestService.findAllAfterCursor(user.getId(), null, 1);
+        CursorPage<RequestDto> secondPage = requestService.findAllAfterCursor(user.getId(), firstPage.getNext(), 1);
+
+        assertThat(firstPage.getContent()).extracting(RequestDto::getId).containsExactly(second.getId());
+        assertThat(secondPage.getContent()).extracting(RequestDto::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    void cursorPageLoadsItemsOfAllRequestsInOneQuery() {
+        UserDto requestor = userService.createUser(user1);
+        UserDto owner = userService.createUser(NewUserRequest.builder().name("Owner").email("owner@practicum.ru")
+                .build());
+        RequestDto withTwoItems = requestService.create(itemRequest1, requestor.getId());
+        RequestDto withOneItem = requestService.create(itemRequest1, requestor.getId());
+        RequestDto withoutItems = requestService.create(itemRequest1, requestor.getId());
+        ItemDto drill = itemService.create(owner.getId(), itemFor(withTwoItems, "Дрель"));
+        ItemDto hammer = itemService.create(owner.getId(), itemFor(withTwoItems, "Молоток"));
+        ItemDto ladder = itemService.create(owner.getId(), itemFor(withOneItem, "Лестница"));
+
+        requestService.findAllAfterCursor(requestor.getId(), null, 1);
+        int singleRequestStatements = countStatements(() ->
+                requestService.findAllAfterCursor(requestor.getId(), null, 1));
+        RequestStatements statements = StatementRecorder.begin();
+        CursorPage<RequestDto> page;
+        try {
+            page = requestService.findAllAfterCursor(requestor.getId(), null, 10);
+        } finally {
+            StatementRecorder.end();
+        }
+
+        assertThat(statements.count()).isEqualTo(singleRequestStatements);
+        assertThat(page.getContent()).extracting(RequestDto::getId)
+                .containsExactly(withoutItems.getId(), withOneItem.getId(), withTwoItems.getId());
+        assertThat(page.getContent().get(0).getItems()).isEmpty();
+        assertThat(page.getContent().get(1).getItems()).extracting(ItemDto::getId)
+                .containsExactly(ladder.getId());
+        assertThat(page.getContent().get(2).getItems()).extracting(ItemDto::getId)
+                .containsExactlyInAnyOrder(drill.getId(), hammer.getId());
+    }
+
+    private NewItemRequest itemFor(RequestDto request, String name) {
+        return NewItemRequest.builder().name(name).description(name).available(true).requestId(request.getId())
+                .build();
+    }
+
+    private int countStatements(Runnable action) {
+        RequestStatements statements = StatementRecorder.begin();
+        try {
+            action.run();
+        } finally {
+            StatementRecorder.end();
+        }
+        return statements.count();
+    }
 }
\ No newline at end of file
@@ -13,14 +13,17 @@ import ru.practicum.shareit.user.controller.UserController;
 import ru.practicum.shareit.user.dto.NewUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserImportService;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,6 +37,9 @@ public class UserControllerTest {
     @MockBean
     UserService userService;
 
+    @MockBean
+    UserImportService userImportService;
+
     @Autowired
     MockMvc mvc;
 
@@ -131,4 +137,21 @@ public class UserControllerTest {
 
         verify(userService, times(1)).deleteUser(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamUsersAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(0);
+            consumer.accept(userDto);
+            consumer.accept(userDtoAfterUpdate);
+            return null;
+        }).when(userService).streamUsers(any());
+
+        mvc.perform(get("/users")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(mapper.writeValueAsString(userDto) + "\n"
+                        + mapper.writeValueAsString(userDtoAfterUpdate) + "\n"));
+    }
+}
@@ -9,14 +9,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.bulk.ImportResult;
+import ru.practicum.shareit.bulk.ImportStatus;
 import ru.practicum.shareit.exception.DuplicatedDataException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.NewUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserImportService;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +38,9 @@ public class UserServiceTest {
     @Autowired
     UserService userService;
 
+    @Autowired
+    UserImportService userImportService;
+
     NewUserRequest user1;
     NewUserRequest user2;
 
@@ -126,4 +136,64 @@ public class UserServiceTest {
         assertThatThrownBy(() -> userService.getUserById(user.getId()))
                 .isInstanceOf(NotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void validateUserExistFailsAfterUserIsDeleted() {
+        UserDto user = userService.createUser(user1);
+        userService.validateUserExist(user.getId());
+
+        userService.deleteUser(user.getId());
+
+        assertThatThrownBy(() -> userService.validateUserExist(user.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void importUsersReportsResultPerLine() throws Exception {
+        userService.createUser(user1);
+        String body = """
+                {"name":"Import","email":"import@practicum.ru"}
+                {"name":"Broken","email":"not-an-email"}
+
+                {"name":"Existing","email":"yandex@practicum.ru"}
+                {"name":"Twice","email":"import@practicum.ru"}
+                {"name":
+                """;
+        List<ImportResult> results = new ArrayList<>();
+
+        userImportService.importUsers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), results::add);
+
+        assertThat(results).extracting(ImportResult::getLine).containsExactly(1L, 2L, 4L, 5L, 6L);
+        assertThat(results).extracting(ImportResult::getStatus).containsExactly(ImportStatus.CREATED,
+                ImportStatus.FAILED, ImportStatus.FAILED, ImportStatus.FAILED, ImportStatus.FAILED);
+        assertThat(results.get(1).getError()).isEqualTo("Email имеет неверный формат");
+        assertThat(results.get(2).getError()).isEqualTo("Пользователь с таким email уже существует");
+        assertThat(results.get(4).getError()).startsWith("Некорректная строка JSON");
+        assertThat(userService.getUserById(results.getFirst().getId()).getEmail()).isEqualTo("import@practicum.ru");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void importUsersRetriesFailedChunkLineByLine() throws Exception {
+        String body = String.join("\n",
+                "{\"name\":\"First\",\"email\":\"first-import@practicum.ru\"}",
+                "{\"name\":\"" + "Я".repeat(300) + "\",\"email\":\"long-import@practicum.ru\"}",
+                "{\"name\":\"Third\",\"email\":\"third-import@practicum.ru\"}");
+        List<ImportResult> results = new ArrayList<>();
+
+        userImportService.importUsers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), results::add);
+
+        try {
+            assertThat(results).extracting(ImportResult::getStatus).containsExactly(ImportStatus.CREATED,
+                    ImportStatus.FAILED, ImportStatus.CREATED);
+            assertThat(results.get(1).getError()).startsWith("Ошибка сохранения");
+            assertThat(userService.getUserById(results.get(0).getId()).getName()).isEqualTo("First");
+            assertThat(userService.getUserById(results.get(2).getId()).getName()).isEqualTo("Third");
+        } finally {
+            results.stream()
+                    .filter(result -> result.getStatus() == ImportStatus.CREATED)
+                    .forEach(result -> userService.deleteUser(result.getId()));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.web;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "shareit.web.max-concurrent-requests=1",
+        "shareit.web.concurrency-wait-timeout=300ms"
+})
+@ActiveProfiles("test")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ConcurrencyLimitFilterTest {
+    @Autowired
+    ConcurrencyLimitFilter filter;
+
+    @Test
+    void requestWaitsForFreePermit() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = holdPermit(entered, release);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicBoolean secondHandled = new AtomicBoolean();
+        CompletableFuture<MockHttpServletResponse> second = CompletableFuture.supplyAsync(() ->
+                filter(() -> secondHandled.set(true)));
+        Thread.sleep(100);
+        assertThat(secondHandled).isFalse();
+
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(secondHandled).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void requestGetsServiceUnavailableAfterWaitTimeout() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = holdPermit(entered, release);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicBoolean secondHandled = new AtomicBoolean();
+        MockHttpServletResponse second = filter(() -> secondHandled.set(true));
+        release.countDown();
+
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(secondHandled).isFalse();
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void actuatorIsNotLimited() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = holdPermit(entered, release);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        AtomicBoolean handled = new AtomicBoolean();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health,
+                (request, response) -> handled.set(true));
+        release.countDown();
+
+        assertThat(handled).isTrue();
+        assertThat(health.getStatus()).isEqualTo(200);
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<MockHttpServletResponse> holdPermit(CountDownLatch entered, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> filter(() -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    private MockHttpServletResponse filter(Runnable handler) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/bookings"), response,
+                    (request, servletResponse) -> handler.run());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+}